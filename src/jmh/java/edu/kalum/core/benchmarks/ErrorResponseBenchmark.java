@@ -0,0 +1,60 @@
+package edu.kalum.core.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private DataAccessResourceFailureException exception;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exception = new DataAccessResourceFailureException("Could not open JPA EntityManager for transaction",
+                new SQLException("Communications link failure"));
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> errorResponse() {
+        return buildErrorResponse();
+    }
+
+    @Benchmark
+    public byte[] errorResponseSerializado() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildErrorResponse().getBody());
+    }
+
+    private ResponseEntity<Map<String, Object>> buildErrorResponse() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("Mensaje", "Error al momento de realizar la consulta a la base de datos");
+        response.put("Error", exception.getMessage().concat(": ").concat(exception.getMostSpecificCause().getMessage()));
+        return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,100 @@
+package edu.kalum.core.benchmarks;
+
+import com.google.gson.Gson;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import edu.kalum.core.configuration.CircuitBreakerConfig;
+import edu.kalum.core.configuration.RabbitMQConfig;
+import edu.kalum.core.model.dao.services.EnrollmentPublisherServiceImp;
+import edu.kalum.core.model.dao.services.IEnrollmentPublisherService;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+@Fork(1)
+public class PublishBenchmark {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String COLA = "kalum.benchmark.enrollment";
+
+    private ConnectionFactory factory;
+
+    private AnnotationConfigApplicationContext context;
+
+    private IEnrollmentPublisherService publisher;
+
+    private EnrollmentRequestDTO request;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        request = new EnrollmentRequestDTO("EXP-2022001", "2022", 1, "2c1f9d6e-0a55-4b5b-8a3e-3f2d6f1b7c10");
+        factory = new ConnectionFactory();
+        factory.setHost(System.getProperty("spring.rabbitmq.host", "localhost"));
+        factory.setPort(Integer.getInteger("spring.rabbitmq.port", 5672));
+        factory.setUsername(System.getProperty("spring.rabbitmq.username", "guest"));
+        factory.setPassword(System.getProperty("spring.rabbitmq.password", "guest"));
+        factory.setVirtualHost(System.getProperty("spring.rabbitmq.virtual-host", "/"));
+        try (Connection connection = factory.newConnection(); Channel channel = connection.createChannel()) {
+            channel.queueDeclare(COLA, false, false, false, null);
+            channel.queuePurge(COLA);
+        }
+
+        Map<String, Object> propiedades = new HashMap<>();
+        propiedades.put("edu.kalum.core.configuration.enrollment.routing-key", COLA);
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", propiedades));
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(RabbitMQConfig.class, CircuitBreakerConfig.class, EnrollmentPublisherServiceImp.class);
+        context.refresh();
+        publisher = context.getBean(IEnrollmentPublisherService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        try (Connection connection = factory.newConnection(); Channel channel = connection.createChannel()) {
+            channel.queueDelete(COLA);
+        }
+    }
+
+    @Benchmark
+    public boolean conexionPorSolicitud() throws Exception {
+        try (Connection connection = factory.newConnection(); Channel channel = connection.createChannel()) {
+            channel.basicPublish("", COLA, null, GSON.toJson(request).getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean canalesConConfirmacion() {
+        return publisher.publish(request);
+    }
+}
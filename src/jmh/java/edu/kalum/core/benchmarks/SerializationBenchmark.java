@@ -0,0 +1,92 @@
+package edu.kalum.core.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import edu.kalum.core.model.entities.Aspirante;
+import edu.kalum.core.model.entities.Inscripcion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final Gson GSON = new Gson();
+
+    @Param({"5", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private EnrollmentRequestDTO enrollmentRequest;
+
+    private Page<Aspirante> aspirantes;
+
+    private List<Inscripcion> inscripciones;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        enrollmentRequest = new EnrollmentRequestDTO("EXP-2022001", "2022", 1, "2c1f9d6e-0a55-4b5b-8a3e-3f2d6f1b7c10");
+        List<Aspirante> contenido = new ArrayList<>();
+        inscripciones = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Aspirante aspirante = new Aspirante();
+            aspirante.setNoExpediente(String.format("EXP-2022%03d", i));
+            aspirante.setApellidos("Apellido".concat(String.valueOf(i)));
+            aspirante.setNombres("Nombre".concat(String.valueOf(i)));
+            aspirante.setDireccion("Ciudad de Guatemala");
+            aspirante.setTelefono("5555".concat(String.format("%04d", i)));
+            aspirante.setEmail("aspirante".concat(String.valueOf(i)).concat("@kalum.edu.gt"));
+            aspirante.setEstatus("NO ASIGNADO");
+            contenido.add(aspirante);
+            Inscripcion inscripcion = new Inscripcion();
+            inscripcion.setInscripcionId(String.valueOf(i));
+            inscripcion.setCarne(String.format("2022%04d", i));
+            inscripcion.setJornadaId("JM");
+            inscripcion.setCiclo("2022");
+            inscripcion.setFechaInscripcion("2022-01-15");
+            inscripciones.add(inscripcion);
+        }
+        aspirantes = new PageImpl<>(contenido, PageRequest.of(0, size), size * 10L);
+    }
+
+    @Benchmark
+    public byte[] gsonEnrollmentRequest() {
+        return GSON.toJson(enrollmentRequest).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jacksonPageAspirantes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(aspirantes);
+    }
+
+    @Benchmark
+    public byte[] jacksonListInscripciones() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(inscripciones);
+    }
+}
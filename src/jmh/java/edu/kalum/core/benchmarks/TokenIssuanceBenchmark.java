@@ -0,0 +1,170 @@
+package edu.kalum.core.benchmarks;
+
+import edu.kalum.core.auth.InfoAdicionlToken;
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.configuration.HibernateStatementCounter;
+import edu.kalum.core.model.dao.IUsuarioDao;
+import edu.kalum.core.model.dao.services.IUsuarioService;
+import edu.kalum.core.model.dao.services.UsuarioServiceImp;
+import edu.kalum.core.model.entities.Role;
+import edu.kalum.core.model.entities.Usuario;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenIssuanceBenchmark {
+
+    private static final String USUARIO = "benchmark";
+
+    private ConfigurableApplicationContext context;
+
+    private IUsuarioDao usuarioDao;
+
+    private UserDetailsService userDetailsService;
+
+    private InfoAdicionlToken infoAdicionlToken;
+
+    private CacheManager cacheManager;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Consultas {
+
+        public long consultas;
+
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            consultas = 0;
+            tokens = 0;
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Usuario.class)
+    @EnableJpaRepositories(basePackageClasses = IUsuarioDao.class)
+    @Import({CacheConfig.class, UsuarioServiceImp.class, InfoAdicionlToken.class})
+    static class Configuracion {
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(Configuracion.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:token-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + HibernateStatementCounter.class.getName())
+                .run();
+        usuarioDao = context.getBean(IUsuarioDao.class);
+        userDetailsService = context.getBean(UserDetailsService.class);
+        infoAdicionlToken = context.getBean(InfoAdicionlToken.class);
+        cacheManager = context.getBean(CacheManager.class);
+        context.getBean(IUsuarioService.class).save(new Usuario(null, USUARIO, "{noop}benchmark", true, "Usuario", "Benchmark", "benchmark@kalum.edu.gt",
+                new ArrayList<>(Collections.singletonList(new Role(null, "ROLE_ADMIN")))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OAuth2AccessToken sinCache(Consultas contador) {
+        HibernateStatementCounter.reset();
+        Usuario usuario = usuarioDao.findByUserName(USUARIO);
+        List<GrantedAuthority> authorities = usuario.getRoles()
+                .stream()
+                .map(role -> new SimpleGrantedAuthority(role.getNombres()))
+                .collect(Collectors.toList());
+        User user = new User(usuario.getUserName(), usuario.getPassword(), usuario.isEnabled(), true, true, true, authorities);
+        Usuario enriquecido = usuarioDao.findByUserName(user.getUsername());
+        Map<String, Object> info = new HashMap<>();
+        info.put("nombre", enriquecido.getNombres());
+        info.put("apellidos", enriquecido.getApellidos());
+        info.put("email", enriquecido.getEmail());
+        DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+        token.setAdditionalInformation(info);
+        contar(contador);
+        return token;
+    }
+
+    @Benchmark
+    public OAuth2AccessToken cacheFrio(Consultas contador) {
+        cacheManager.getCache(CacheConfig.USUARIOS).clear();
+        HibernateStatementCounter.reset();
+        OAuth2AccessToken token = emitir();
+        contar(contador);
+        return token;
+    }
+
+    @Benchmark
+    public OAuth2AccessToken cacheCaliente(Consultas contador) {
+        HibernateStatementCounter.reset();
+        OAuth2AccessToken token = emitir();
+        contar(contador);
+        return token;
+    }
+
+    private OAuth2AccessToken emitir() {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(USUARIO);
+        OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "frontendapp", userDetails.getAuthorities(), true,
+                Collections.singleton("read"), null, null, null, null);
+        OAuth2Authentication authentication = new OAuth2Authentication(request,
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        return infoAdicionlToken.enhance(new DefaultOAuth2AccessToken(UUID.randomUUID().toString()), authentication);
+    }
+
+    private void contar(Consultas contador) {
+        contador.consultas += HibernateStatementCounter.reset();
+        contador.tokens++;
+    }
+}
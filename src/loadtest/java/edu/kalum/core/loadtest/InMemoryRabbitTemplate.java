@@ -0,0 +1,80 @@
+package edu.kalum.core.loadtest;
+
+import com.google.gson.Gson;
+import edu.kalum.core.model.dao.services.IEnrollmentConsumerService;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class InMemoryRabbitTemplate extends RabbitTemplate {
+
+    private Logger logger = LoggerFactory.getLogger(InMemoryRabbitTemplate.class);
+
+    private static final Gson GSON = new Gson();
+
+    private final BlockingQueue<Message> cola = new LinkedBlockingQueue<>();
+
+    private final IEnrollmentConsumerService enrollmentConsumerService;
+
+    private final int batchSize;
+
+    private volatile boolean activo = true;
+
+    public InMemoryRabbitTemplate(IEnrollmentConsumerService enrollmentConsumerService, int batchSize) {
+        this.enrollmentConsumerService = enrollmentConsumerService;
+        this.batchSize = batchSize;
+        Thread consumidor = new Thread(this::consumir, "loadtest-enrollment-consumer");
+        consumidor.setDaemon(true);
+        consumidor.start();
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+        cola.add(message);
+        if (correlationData != null) {
+            correlationData.getFuture().set(new CorrelationData.Confirm(true, null));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        activo = false;
+        super.destroy();
+    }
+
+    private void consumir() {
+        List<Message> lote = new ArrayList<>(batchSize);
+        while (activo) {
+            try {
+                Message primero = cola.poll(200, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                lote.add(primero);
+                cola.drainTo(lote, batchSize - 1);
+                List<EnrollmentRequestDTO> requests = new ArrayList<>(lote.size());
+                for (Message message : lote) {
+                    requests.add(GSON.fromJson(new String(message.getBody(), StandardCharsets.UTF_8), EnrollmentRequestDTO.class));
+                }
+                enrollmentConsumerService.process(requests);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Error al procesar el lote de inscripciones, ".concat(String.valueOf(e.getMessage())));
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package edu.kalum.core.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.WebKalumManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.File;
+import java.util.Map;
+
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WebKalumManagementApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            Environment environment = context.getEnvironment();
+            LoadTestDriver driver = new LoadTestDriver("http://localhost:".concat(environment.getProperty("local.server.port")),
+                    context.getBean(LoadTestSeeder.class), environment);
+            Map<String, Object> reporte = driver.run();
+            File destino = new File(environment.getProperty("loadtest.report", "target/loadtest-result.json"));
+            if (destino.getParentFile() != null) {
+                destino.getParentFile().mkdirs();
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(destino, reporte);
+        } finally {
+            context.close();
+        }
+    }
+}
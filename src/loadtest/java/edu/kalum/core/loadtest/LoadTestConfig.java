@@ -0,0 +1,23 @@
+package edu.kalum.core.loadtest;
+
+import edu.kalum.core.model.dao.services.IEnrollmentConsumerService;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Value("${edu.kalum.core.configuration.enrollment.consumer.batch-size:200}")
+    private Integer batchSize;
+
+    @Bean
+    @Primary
+    public RabbitTemplate inMemoryRabbitTemplate(IEnrollmentConsumerService enrollmentConsumerService) {
+        return new InMemoryRabbitTemplate(enrollmentConsumerService, batchSize);
+    }
+}
@@ -0,0 +1,357 @@
+package edu.kalum.core.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LoadTestDriver {
+
+    private Logger logger = LoggerFactory.getLogger(LoadTestDriver.class);
+
+    private static final String API = "/kalum-management/v1";
+
+    private static final String[] PERCENTILES = {"p50", "p90", "p99", "p999"};
+
+    private static final double[] VALORES_PERCENTIL = {0.5, 0.9, 0.99, 0.999};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+
+    private final LoadTestSeeder seeder;
+
+    private final int threads;
+
+    private final long warmup;
+
+    private final long duracion;
+
+    private final String cliente;
+
+    private final String username;
+
+    private final String password;
+
+    private final boolean replicas;
+
+    private final List<Escenario> mezcla = new ArrayList<>();
+
+    private int pesoTotal;
+
+    private volatile String token;
+
+    public LoadTestDriver(String baseUrl, LoadTestSeeder seeder, Environment environment) {
+        this.baseUrl = baseUrl;
+        this.seeder = seeder;
+        this.threads = environment.getProperty("loadtest.threads", Integer.class, 32);
+        this.warmup = environment.getProperty("loadtest.warmup-seconds", Long.class, 15L) * 1000L;
+        this.duracion = environment.getProperty("loadtest.duration-seconds", Long.class, 60L) * 1000L;
+        this.cliente = "Basic ".concat(Base64.getEncoder().encodeToString(environment.getProperty("edu.kalum.core.configuration.app.username")
+                .concat(":").concat(environment.getProperty("edu.kalum.core.configuration.app.password")).getBytes(StandardCharsets.UTF_8)));
+        this.username = environment.getProperty("loadtest.username");
+        this.password = environment.getProperty("loadtest.password");
+        this.replicas = environment.getProperty("edu.kalum.core.configuration.datasource.routing.enabled", Boolean.class, false);
+        escenario("oauth.token", 2, random -> {
+            String nuevo = obtenerToken();
+            return nuevo == null ? 401 : 200;
+        });
+        escenario("carreras-tecnicas.catalogo", 15, random -> enviar("GET", API + "/carreras-tecnicas/page?size=20", null, null));
+        escenario("aspirantes.id", 25, random -> enviar("GET", API + "/aspirantes/" + aspiranteAleatorio(random), null, bearer()));
+        escenario("aspirantes.cursor", 12, random -> enviar("GET", API + "/aspirantes/page?size=50&after=" + aspiranteAleatorio(random), null, bearer()));
+        escenario("aspirantes.search", 10, random -> enviar("GET", API + "/aspirantes/search?size=20&q="
+                + URLEncoder.encode("Maria " + random.nextInt(1000), "UTF-8"), null, bearer()));
+        escenario("aspirantes.filter", 8, random -> enviar("GET", API + "/aspirantes/filter?size=20&carreraId=" + carreraAleatoria(random)
+                + "&jornadaId=" + seeder.getJornadaIds().get(random.nextInt(seeder.getJornadaIds().size())), null, bearer()));
+        escenario("carreras-tecnicas.aspirantes", 5, random -> enviar("GET", API + "/carreras-tecnicas/" + carreraAleatoria(random) + "/aspirantes?size=50",
+                null, bearer()));
+        escenario("inscripciones.enrollment", 18, random -> enviar("POST", API + "/inscripciones/enrollment", json(enrollment(random)), bearer()));
+        escenario("aspirantes.create", 5, random -> enviar("POST", API + "/aspirantes", json(aspirante(random)), bearer()));
+    }
+
+    public Map<String, Object> run() throws Exception {
+        if (obtenerToken() == null) {
+            throw new IllegalStateException("No se pudo obtener el token del usuario de carga");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long inicioMedicion = System.currentTimeMillis() + warmup;
+        long fin = inicioMedicion + duracion;
+        List<Future<Map<String, Muestras>>> trabajadores = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            trabajadores.add(executor.submit(() -> trabajar(inicioMedicion, fin)));
+        }
+        Map<String, Muestras> resultados = new LinkedHashMap<>();
+        for (Escenario escenario : mezcla) {
+            resultados.put(escenario.nombre, new Muestras());
+        }
+        for (Future<Map<String, Muestras>> trabajador : trabajadores) {
+            for (Map.Entry<String, Muestras> entrada : trabajador.get().entrySet()) {
+                resultados.get(entrada.getKey()).agregar(entrada.getValue());
+            }
+        }
+        executor.shutdown();
+        return reporte(resultados);
+    }
+
+    private Map<String, Muestras> trabajar(long inicioMedicion, long fin) {
+        Map<String, Muestras> muestras = new HashMap<>();
+        for (Escenario escenario : mezcla) {
+            muestras.put(escenario.nombre, new Muestras());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long ahora;
+        while ((ahora = System.currentTimeMillis()) < fin) {
+            Escenario escenario = seleccionar(random);
+            long inicio = System.nanoTime();
+            boolean exito;
+            try {
+                exito = escenario.peticion.ejecutar(random) < 400;
+            } catch (IOException e) {
+                exito = false;
+            }
+            if (ahora >= inicioMedicion) {
+                muestras.get(escenario.nombre).registrar(System.nanoTime() - inicio, exito);
+            }
+        }
+        return muestras;
+    }
+
+    private Map<String, Object> reporte(Map<String, Muestras> resultados) {
+        Map<String, Object> reporte = new LinkedHashMap<>();
+        Muestras total = new Muestras();
+        Map<String, Object> escenarios = new LinkedHashMap<>();
+        logger.info(String.format("%-30s %10s %8s %10s %9s %9s %9s %9s %9s", "escenario", "peticiones", "errores", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms"));
+        for (Map.Entry<String, Muestras> entrada : resultados.entrySet()) {
+            escenarios.put(entrada.getKey(), resumen(entrada.getKey(), entrada.getValue()));
+            total.agregar(entrada.getValue());
+        }
+        reporte.put("threads", threads);
+        reporte.put("aspirantes", seeder.getAspirantes());
+        reporte.put("replicas", replicas);
+        reporte.put("durationSeconds", duracion / 1000L);
+        reporte.put("total", resumen("total", total));
+        reporte.put("escenarios", escenarios);
+        return reporte;
+    }
+
+    private Map<String, Object> resumen(String nombre, Muestras muestras) {
+        long[] latencias = Arrays.copyOf(muestras.latencias, muestras.cantidad);
+        Arrays.sort(latencias);
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("requests", muestras.cantidad);
+        resumen.put("errors", muestras.errores);
+        resumen.put("throughput", muestras.cantidad * 1000.0 / duracion);
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            resumen.put(PERCENTILES[i], milisegundos(percentil(latencias, VALORES_PERCENTIL[i])));
+        }
+        resumen.put("max", milisegundos(latencias.length == 0 ? 0 : latencias[latencias.length - 1]));
+        logger.info(String.format("%-30s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f", nombre, muestras.cantidad, muestras.errores,
+                resumen.get("throughput"), resumen.get("p50"), resumen.get("p90"), resumen.get("p99"), resumen.get("p999"), resumen.get("max")));
+        return resumen;
+    }
+
+    private static long percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))];
+    }
+
+    private static double milisegundos(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private void escenario(String nombre, int peso, Peticion peticion) {
+        mezcla.add(new Escenario(nombre, peso, peticion));
+        pesoTotal += peso;
+    }
+
+    private Escenario seleccionar(ThreadLocalRandom random) {
+        int valor = random.nextInt(pesoTotal);
+        for (Escenario escenario : mezcla) {
+            valor -= escenario.peso;
+            if (valor < 0) {
+                return escenario;
+            }
+        }
+        return mezcla.get(mezcla.size() - 1);
+    }
+
+    private String aspiranteAleatorio(ThreadLocalRandom random) {
+        return LoadTestSeeder.noExpediente(random.nextInt(seeder.getAspirantes()));
+    }
+
+    private String carreraAleatoria(ThreadLocalRandom random) {
+        return seeder.getCarreraIds().get(random.nextInt(seeder.getCarreraIds().size()));
+    }
+
+    private Map<String, Object> enrollment(ThreadLocalRandom random) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("noExpediente", aspiranteAleatorio(random));
+        request.put("ciclo", "2022");
+        request.put("mesInicioPago", random.nextInt(1, 13));
+        request.put("carreraId", carreraAleatoria(random));
+        return request;
+    }
+
+    private Map<String, Object> aspirante(ThreadLocalRandom random) {
+        Map<String, Object> aspirante = new LinkedHashMap<>();
+        aspirante.put("noExpediente", "LT-".concat(UUID.randomUUID().toString()));
+        aspirante.put("apellidos", "Carga");
+        aspirante.put("nombres", "Aspirante");
+        aspirante.put("direccion", "Zona 1");
+        aspirante.put("telefono", String.format("4%07d", random.nextInt(10_000_000)));
+        aspirante.put("email", "carga@kalum.edu.gt");
+        aspirante.put("estatus", "NO ASIGNADO");
+        aspirante.put("examenAdmision", referencia("examenId", seeder.getExamenIds().get(random.nextInt(seeder.getExamenIds().size()))));
+        aspirante.put("jornada", referencia("jornadaId", seeder.getJornadaIds().get(random.nextInt(seeder.getJornadaIds().size()))));
+        aspirante.put("carreraTecnica", referencia("carreraId", carreraAleatoria(random)));
+        return aspirante;
+    }
+
+    private static Map<String, Object> referencia(String campo, String valor) {
+        Map<String, Object> referencia = new HashMap<>();
+        referencia.put(campo, valor);
+        return referencia;
+    }
+
+    private String obtenerToken() throws IOException {
+        String cuerpo = "grant_type=password&username=" + URLEncoder.encode(username, "UTF-8")
+                + "&password=" + URLEncoder.encode(password, "UTF-8");
+        HttpURLConnection conexion = conectar("POST", "/oauth/token", cliente);
+        Respuesta respuesta = ejecutar(conexion, "application/x-www-form-urlencoded", cuerpo.getBytes(StandardCharsets.UTF_8));
+        if (respuesta.status != 200) {
+            return null;
+        }
+        token = objectMapper.readTree(respuesta.cuerpo).path("access_token").asText(null);
+        return token;
+    }
+
+    private String bearer() {
+        return "Bearer ".concat(token);
+    }
+
+    private byte[] json(Object valor) throws IOException {
+        return objectMapper.writeValueAsBytes(valor);
+    }
+
+    private int enviar(String metodo, String ruta, byte[] cuerpo, String autorizacion) throws IOException {
+        return ejecutar(conectar(metodo, ruta, autorizacion), "application/json", cuerpo).status;
+    }
+
+    private HttpURLConnection conectar(String metodo, String ruta, String autorizacion) throws IOException {
+        HttpURLConnection conexion = (HttpURLConnection) new URL(baseUrl.concat(ruta)).openConnection();
+        conexion.setRequestMethod(metodo);
+        conexion.setConnectTimeout(5000);
+        conexion.setReadTimeout(30000);
+        if (autorizacion != null) {
+            conexion.setRequestProperty("Authorization", autorizacion);
+        }
+        return conexion;
+    }
+
+    private Respuesta ejecutar(HttpURLConnection conexion, String contentType, byte[] cuerpo) throws IOException {
+        if (cuerpo != null) {
+            conexion.setDoOutput(true);
+            conexion.setRequestProperty("Content-Type", contentType);
+            try (OutputStream salida = conexion.getOutputStream()) {
+                salida.write(cuerpo);
+            }
+        }
+        int status = conexion.getResponseCode();
+        InputStream entrada = status < 400 ? conexion.getInputStream() : conexion.getErrorStream();
+        ByteArrayOutputStream respuesta = new ByteArrayOutputStream();
+        if (entrada != null) {
+            try (InputStream in = entrada) {
+                byte[] buffer = new byte[8192];
+                int leidos;
+                while ((leidos = in.read(buffer)) != -1) {
+                    respuesta.write(buffer, 0, leidos);
+                }
+            }
+        }
+        return new Respuesta(status, respuesta.toByteArray());
+    }
+
+    private interface Peticion {
+        int ejecutar(ThreadLocalRandom random) throws IOException;
+    }
+
+    private static class Escenario {
+
+        private final String nombre;
+
+        private final int peso;
+
+        private final Peticion peticion;
+
+        private Escenario(String nombre, int peso, Peticion peticion) {
+            this.nombre = nombre;
+            this.peso = peso;
+            this.peticion = peticion;
+        }
+    }
+
+    private static class Respuesta {
+
+        private final int status;
+
+        private final byte[] cuerpo;
+
+        private Respuesta(int status, byte[] cuerpo) {
+            this.status = status;
+            this.cuerpo = cuerpo;
+        }
+    }
+
+    private static class Muestras {
+
+        private long[] latencias = new long[1024];
+
+        private int cantidad;
+
+        private int errores;
+
+        private void registrar(long nanos, boolean exito) {
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = nanos;
+            if (!exito) {
+                errores++;
+            }
+        }
+
+        private void agregar(Muestras otras) {
+            if (cantidad + otras.cantidad > latencias.length) {
+                latencias = Arrays.copyOf(latencias, Math.max(latencias.length * 2, cantidad + otras.cantidad));
+            }
+            System.arraycopy(otras.latencias, 0, latencias, cantidad, otras.cantidad);
+            cantidad += otras.cantidad;
+            errores += otras.errores;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package edu.kalum.core.loadtest;
+
+import edu.kalum.core.configuration.ReplicaRoutingDataSource;
+import edu.kalum.core.model.dao.services.IUsuarioService;
+import edu.kalum.core.model.entities.Role;
+import edu.kalum.core.model.entities.Usuario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadTestSeeder implements ApplicationRunner {
+
+    private Logger logger = LoggerFactory.getLogger(LoadTestSeeder.class);
+
+    private static final String[] NOMBRES = {"Ana", "Carlos", "Maria", "Jose", "Lucia", "Pedro", "Sofia", "Luis", "Elena", "Jorge"};
+
+    private static final String[] APELLIDOS = {"Lopez", "Garcia", "Perez", "Morales", "Hernandez", "Castillo", "Ramirez", "Mendez", "Fuentes", "Chinchilla"};
+
+    private static final String[] ESTATUS = {"NO ASIGNADO", "ASIGNADO", "INSCRITO"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IUsuarioService usuarioService;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired(required = false)
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Value("${loadtest.aspirantes:500000}")
+    private Integer aspirantes;
+
+    @Value("${loadtest.carreras:50}")
+    private Integer carreras;
+
+    @Value("${loadtest.jornadas:3}")
+    private Integer jornadas;
+
+    @Value("${loadtest.examenes:10}")
+    private Integer examenes;
+
+    @Value("${loadtest.seed-batch-size:5000}")
+    private Integer batchSize;
+
+    @Value("${loadtest.username}")
+    private String username;
+
+    @Value("${loadtest.password}")
+    private String password;
+
+    private final List<String> carreraIds = new ArrayList<>();
+
+    private final List<String> jornadaIds = new ArrayList<>();
+
+    private final List<String> examenIds = new ArrayList<>();
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long inicio = System.currentTimeMillis();
+        List<Object[]> filas = new ArrayList<>();
+        for (int i = 0; i < jornadas; i++) {
+            String jornadaId = "J".concat(String.valueOf(i + 1));
+            jornadaIds.add(jornadaId);
+            filas.add(new Object[]{jornadaId, "JORNADA ".concat(String.valueOf(i + 1)), "Jornada de carga ".concat(String.valueOf(i + 1))});
+        }
+        jdbcTemplate.batchUpdate("insert into JORNADA (JORNADA_ID, JORNADA, DESCRIPCION) values (?, ?, ?)", filas);
+        filas.clear();
+        for (int i = 0; i < examenes; i++) {
+            String examenId = UUID.randomUUID().toString();
+            examenIds.add(examenId);
+            filas.add(new Object[]{examenId, String.format("2022-%02d-15", (i % 12) + 1)});
+        }
+        jdbcTemplate.batchUpdate("insert into EXAMEN_ADMISION (EXAMEN_ID, FECHA_EXAMEN) values (?, ?)", filas);
+        filas.clear();
+        for (int i = 0; i < carreras; i++) {
+            String carreraId = UUID.randomUUID().toString();
+            carreraIds.add(carreraId);
+            filas.add(new Object[]{carreraId, "Carrera tecnica ".concat(String.valueOf(i + 1))});
+        }
+        jdbcTemplate.batchUpdate("insert into CARRERA_TECNICA (CARRERA_ID, CARRERA_TECNICA) values (?, ?)", filas);
+        filas.clear();
+        for (int i = 0; i < aspirantes; i++) {
+            String nombre = NOMBRES[i % NOMBRES.length];
+            String apellido = APELLIDOS[(i / NOMBRES.length) % APELLIDOS.length];
+            filas.add(new Object[]{noExpediente(i), apellido, nombre.concat(" ").concat(String.valueOf(i)), "Zona ".concat(String.valueOf(i % 25 + 1)),
+                    String.format("5%07d", i), nombre.toLowerCase().concat(String.valueOf(i)).concat("@kalum.edu.gt"), ESTATUS[i % ESTATUS.length],
+                    examenIds.get(i % examenIds.size()), jornadaIds.get(i % jornadaIds.size()), carreraIds.get(i % carreraIds.size())});
+            if (filas.size() == batchSize) {
+                insertarAspirantes(filas);
+            }
+        }
+        insertarAspirantes(filas);
+        usuarioService.save(new Usuario(null, username, passwordEncoder.encode(password), true, "Usuario", "Carga", username.concat("@kalum.edu.gt"),
+                new ArrayList<>(Collections.singletonList(new Role(null, "ROLE_ADMIN")))));
+        if (replicaRoutingDataSource != null) {
+            copiarAReplicas();
+        }
+        logger.info("Se generaron ".concat(String.valueOf(aspirantes)).concat(" aspirantes en ")
+                .concat(String.valueOf(System.currentTimeMillis() - inicio)).concat(" ms"));
+    }
+
+    private void insertarAspirantes(List<Object[]> filas) {
+        if (!filas.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into ASPIRANTE (NO_EXPEDIENTE, APELLIDOS, NOMBRES, DIRECCION, TELEFONO, EMAIL, ESTATUS, EXAMEN_ID, JORNADA, CARRERA_ID) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", filas);
+            filas.clear();
+        }
+    }
+
+    private void copiarAReplicas() throws IOException {
+        File script = File.createTempFile("kalum-loadtest", ".sql");
+        script.deleteOnExit();
+        String ruta = script.getAbsolutePath().replace('\\', '/');
+        jdbcTemplate.execute("SCRIPT TO '".concat(ruta).concat("'"));
+        for (DataSource replica : replicaRoutingDataSource.getReplicas()) {
+            new JdbcTemplate(replica).execute("RUNSCRIPT FROM '".concat(ruta).concat("'"));
+        }
+        logger.info("Se copiaron los datos generados a ".concat(String.valueOf(replicaRoutingDataSource.getReplicas().size())).concat(" replica(s)"));
+    }
+
+    public static String noExpediente(int indice) {
+        return String.format("EXP-%07d", indice);
+    }
+
+    public int getAspirantes() {
+        return aspirantes;
+    }
+
+    public List<String> getCarreraIds() {
+        return carreraIds;
+    }
+
+    public List<String> getJornadaIds() {
+        return jornadaIds;
+    }
+
+    public List<String> getExamenIds() {
+        return examenIds;
+    }
+}
@@ -0,0 +1,134 @@
+package edu.kalum.core.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.utils.AdaptiveLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 200)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final String API = "/kalum-management/v1";
+
+    private static final String[] PRIORIDADES = {"enrollment", "autenticada", "anonima"};
+
+    private AdaptiveLimit limit;
+
+    private double[] fracciones;
+
+    private Counter[] descartadas;
+
+    @Autowired
+    private BulkheadFilter bulkheadFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.enabled:true}")
+    private Boolean enabled;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.initial:50}")
+    private Integer initialLimit;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.min:8}")
+    private Integer minLimit;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.max:400}")
+    private Integer maxLimit;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.long-window:600}")
+    private Integer longWindow;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.timeout-ms:5000}")
+    private Long timeout;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.share.autenticada:0.9}")
+    private Double shareAutenticada;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.share.anonima:0.6}")
+    private Double shareAnonima;
+
+    @Value("${edu.kalum.core.configuration.adaptive-limit.retry-after-seconds:1}")
+    private Integer retryAfter;
+
+    @PostConstruct
+    public void init() {
+        limit = new AdaptiveLimit(initialLimit, minLimit, maxLimit, longWindow);
+        fracciones = new double[]{1.0, shareAutenticada, shareAnonima};
+        descartadas = new Counter[PRIORIDADES.length];
+        for (int i = 0; i < PRIORIDADES.length; i++) {
+            descartadas[i] = meterRegistry.counter("kalum.adaptive-limit.shed", "prioridad", PRIORIDADES[i]);
+        }
+        Gauge.builder("kalum.adaptive-limit.limit", limit, AdaptiveLimit::getLimite).register(meterRegistry);
+        Gauge.builder("kalum.adaptive-limit.in-flight", limit, AdaptiveLimit::getEnVuelo).register(meterRegistry);
+        Gauge.builder("kalum.adaptive-limit.min-rtt", limit, l -> l.getRttMinimo() / 1_000_000.0).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().substring(request.getContextPath().length()).startsWith(API)
+                || BulkheadFilter.MASIVO.equals(bulkheadFilter.grupo(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        int prioridad = prioridad(request);
+        if (!limit.tryAcquire(fracciones[prioridad])) {
+            descartadas[prioridad].increment();
+            Map<String, Object> cuerpo = new HashMap<>();
+            cuerpo.put("Error", "El servicio esta saturado, intente de nuevo mas tarde");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), cuerpo);
+            return;
+        }
+        int enVuelo = limit.getEnVuelo();
+        long inicio = System.nanoTime();
+        int status = HttpStatus.SERVICE_UNAVAILABLE.value();
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long rtt = System.nanoTime() - inicio;
+            if (request.getAttribute(BulkheadFilter.RECHAZADA) != null || rtt > TimeUnit.MILLISECONDS.toNanos(timeout)) {
+                limit.release(rtt, enVuelo, true);
+            } else if (status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                limit.ignore();
+            } else {
+                limit.release(rtt, enVuelo, false);
+            }
+        }
+    }
+
+    private int prioridad(HttpServletRequest request) {
+        if (request.getUserPrincipal() == null) {
+            return 2;
+        }
+        return BulkheadFilter.ENROLLMENT.equals(bulkheadFilter.grupo(request)) ? 0 : 1;
+    }
+}
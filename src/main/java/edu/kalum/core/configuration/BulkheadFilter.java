@@ -0,0 +1,164 @@
+package edu.kalum.core.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    public static final String ENROLLMENT = "enrollment";
+    public static final String ESCRITURA = "escritura";
+    public static final String PAGINADO = "paginado";
+    public static final String MASIVO = "masivo";
+
+    public static final String RECHAZADA = BulkheadFilter.class.getName().concat(".RECHAZADA");
+
+    private static final String API = "/kalum-management/v1";
+
+    private Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, Bulkhead> bulkheads = new HashMap<>();
+
+    private List<String> enrollmentPaths;
+
+    private List<String> masivoPaths;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        enrollmentPaths = Arrays.asList(environment.getProperty("edu.kalum.core.configuration.bulkhead.enrollment-paths", String[].class,
+                new String[]{API + "/inscripciones/enrollment", API + "/inscripciones/enrollment/batch"}));
+        masivoPaths = Arrays.asList(environment.getProperty("edu.kalum.core.configuration.bulkhead.masivo-paths", String[].class,
+                new String[]{API + "/alumnos", API + "/aspirantes", API + "/inscripciones", API + "/*/export", API + "/aspirantes/import"}));
+        bulkheads.put(ENROLLMENT, bulkhead(ENROLLMENT, 64, 100L));
+        bulkheads.put(ESCRITURA, bulkhead(ESCRITURA, 32, 50L));
+        bulkheads.put(PAGINADO, bulkhead(PAGINADO, 64, 50L));
+        bulkheads.put(MASIVO, bulkhead(MASIVO, 4, 0L));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !ruta(request).startsWith(API);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheads.get(grupo(request));
+        boolean adquirido;
+        try {
+            adquirido = bulkhead.permisos.tryAcquire(bulkhead.espera, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            adquirido = false;
+        }
+        if (!adquirido) {
+            bulkhead.rechazadas.increment();
+            request.setAttribute(RECHAZADA, Boolean.TRUE);
+            logger.warn("Se rechazo una solicitud del grupo ".concat(bulkhead.nombre).concat(", se alcanzo el limite de concurrencia"));
+            Map<String, Object> cuerpo = new HashMap<>();
+            cuerpo.put("Error", "Se alcanzo el limite de solicitudes simultaneas, intente de nuevo mas tarde");
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(bulkhead.retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), cuerpo);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.permisos.release();
+        }
+    }
+
+    public String grupo(HttpServletRequest request) {
+        String ruta = ruta(request);
+        if (HttpMethod.POST.matches(request.getMethod()) && coincide(enrollmentPaths, ruta)) {
+            return ENROLLMENT;
+        }
+        if (coincide(masivoPaths, ruta)) {
+            return HttpMethod.GET.matches(request.getMethod()) || ruta.endsWith("/import") ? MASIVO : ESCRITURA;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()) ? PAGINADO : ESCRITURA;
+    }
+
+    private boolean coincide(List<String> patrones, String ruta) {
+        for (String patron : patrones) {
+            if (pathMatcher.match(patron, ruta)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String ruta(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private Bulkhead bulkhead(String nombre, int maxConcurrent, long maxWait) {
+        String prefijo = "edu.kalum.core.configuration.bulkhead.".concat(nombre);
+        int limite = environment.getProperty(prefijo.concat(".max-concurrent"), Integer.class, maxConcurrent);
+        Bulkhead bulkhead = new Bulkhead(nombre, limite,
+                environment.getProperty(prefijo.concat(".max-wait-ms"), Long.class, maxWait),
+                environment.getProperty(prefijo.concat(".retry-after-seconds"), Integer.class, 1),
+                meterRegistry.counter("kalum.bulkhead.rejected", "grupo", nombre));
+        Gauge.builder("kalum.bulkhead.in-use", bulkhead.permisos, permisos -> limite - permisos.availablePermits())
+                .tag("grupo", nombre)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+
+    private static final class Bulkhead {
+        private final String nombre;
+        private final Semaphore permisos;
+        private final long espera;
+        private final int retryAfter;
+        private final Counter rechazadas;
+
+        private Bulkhead(String nombre, int maxConcurrent, long espera, int retryAfter, Counter rechazadas) {
+            this.nombre = nombre;
+            this.permisos = new Semaphore(maxConcurrent);
+            this.espera = espera;
+            this.retryAfter = retryAfter;
+            this.rechazadas = rechazadas;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package edu.kalum.core.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CARRERAS_TECNICAS = "carrerasTecnicas";
+    public static final String JORNADAS = "jornadas";
+    public static final String EXAMENES_ADMISION = "examenesAdmision";
+    public static final String USUARIOS = "usuarios";
+    public static final String ASPIRANTE_FACETAS = "aspiranteFacetas";
+    public static final String CATALOGO_CARRERAS = "catalogoCarreras";
+
+    @Value("${edu.kalum.core.configuration.cache.reference-spec:maximumSize=1000,expireAfterWrite=30m,recordStats}")
+    private String referenceSpec;
+
+    @Value("${edu.kalum.core.configuration.cache.usuario-spec:maximumSize=10000,expireAfterWrite=60s,recordStats}")
+    private String usuarioSpec;
+
+    @Value("${edu.kalum.core.configuration.cache.facetas-spec:maximumSize=1,expireAfterWrite=5s,recordStats}")
+    private String facetasSpec;
+
+    @Value("${edu.kalum.core.configuration.cache.catalogo-spec:maximumSize=1000,expireAfterWrite=10m,recordStats}")
+    private String catalogoSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CARRERAS_TECNICAS, JORNADAS, EXAMENES_ADMISION);
+        cacheManager.setCacheSpecification(referenceSpec);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(USUARIOS, Caffeine.from(usuarioSpec).build());
+        cacheManager.registerCustomCache(ASPIRANTE_FACETAS, Caffeine.from(facetasSpec).build());
+        cacheManager.registerCustomCache(CATALOGO_CARRERAS, Caffeine.from(catalogoSpec).build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,55 @@
+package edu.kalum.core.configuration;
+
+import edu.kalum.core.utils.CircuitBreaker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class CircuitBreakerConfig {
+
+    public static final String DATABASE = "database";
+    public static final String BROKER = "broker";
+
+    @Bean
+    public static CircuitBreaker databaseCircuitBreaker(Environment environment) {
+        return circuitBreaker(DATABASE, environment);
+    }
+
+    @Bean
+    public static CircuitBreaker brokerCircuitBreaker(Environment environment) {
+        return circuitBreaker(BROKER, environment);
+    }
+
+    @Bean
+    public static BeanPostProcessor circuitBreakerDataSourcePostProcessor(@Qualifier("databaseCircuitBreaker") ObjectProvider<CircuitBreaker> circuitBreaker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource) || bean instanceof CircuitBreakerDataSource) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy) {
+                    LazyConnectionDataSourceProxy proxy = (LazyConnectionDataSourceProxy) bean;
+                    proxy.setTargetDataSource(new CircuitBreakerDataSource(proxy.getTargetDataSource(), circuitBreaker.getObject()));
+                    return proxy;
+                }
+                return new CircuitBreakerDataSource((DataSource) bean, circuitBreaker.getObject());
+            }
+        };
+    }
+
+    private static CircuitBreaker circuitBreaker(String nombre, Environment environment) {
+        String prefijo = "edu.kalum.core.configuration.circuit-breaker.".concat(nombre);
+        return new CircuitBreaker(nombre,
+                environment.getProperty(prefijo.concat(".failure-threshold"), Integer.class, 5),
+                environment.getProperty(prefijo.concat(".open-ms"), Long.class, 10000L),
+                environment.getProperty(prefijo.concat(".half-open-calls"), Integer.class, 3));
+    }
+}
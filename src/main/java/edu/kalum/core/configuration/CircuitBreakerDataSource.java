@@ -0,0 +1,95 @@
+package edu.kalum.core.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import edu.kalum.core.utils.CircuitBreaker;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+public class CircuitBreakerDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerDataSource(DataSource targetDataSource, CircuitBreaker circuitBreaker) {
+        super(targetDataSource);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw abierto();
+        }
+        try {
+            Connection connection = super.getConnection();
+            circuitBreaker.onSuccess();
+            return connection;
+        } catch (SQLException e) {
+            registrarFallo(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw abierto();
+        }
+        try {
+            Connection connection = super.getConnection(username, password);
+            circuitBreaker.onSuccess();
+            return connection;
+        } catch (SQLException e) {
+            registrarFallo(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable) {
+            ((AutoCloseable) getTargetDataSource()).close();
+        }
+    }
+
+    private void registrarFallo(SQLException e) {
+        if (falloDeConexion(e)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private boolean falloDeConexion(SQLException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException) {
+                String sqlState = ((SQLException) causa).getSQLState();
+                if (sqlState != null && sqlState.startsWith("08")) {
+                    return true;
+                }
+            }
+        }
+        return e instanceof SQLTransientConnectionException && sinConexiones();
+    }
+
+    private boolean sinConexiones() {
+        try {
+            DataSource destino = obtainTargetDataSource();
+            if (!destino.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            HikariPoolMXBean pool = destino.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return pool != null && pool.getTotalConnections() == 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private SQLTransientConnectionException abierto() {
+        return new SQLTransientConnectionException("El circuito ".concat(circuitBreaker.getNombre()).concat(" esta abierto, no se intenta la conexion"));
+    }
+}
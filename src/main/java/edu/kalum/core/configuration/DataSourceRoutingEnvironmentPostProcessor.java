@@ -0,0 +1,23 @@
+package edu.kalum.core.configuration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Collections;
+
+public class DataSourceRoutingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    public static final String ROUTING_ENABLED = "edu.kalum.core.configuration.datasource.routing.enabled";
+
+    public static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty(ROUTING_ENABLED, Boolean.class, false)) {
+            environment.getPropertySources().addFirst(new MapPropertySource("kalumDataSourceRouting",
+                    Collections.singletonMap(OPEN_IN_VIEW, "false")));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package edu.kalum.core.configuration;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "edu.kalum.core.configuration.enrollment.consumer.enabled", havingValue = "true")
+public class EnrollmentConsumerConfig {
+
+    @Value("${edu.kalum.core.configuration.enrollment.consumer.concurrency:4}")
+    private Integer concurrency;
+
+    @Value("${edu.kalum.core.configuration.enrollment.consumer.prefetch:500}")
+    private Integer prefetch;
+
+    @Value("${edu.kalum.core.configuration.enrollment.consumer.batch-size:200}")
+    private Integer batchSize;
+
+    @Value("${edu.kalum.core.configuration.enrollment.consumer.receive-timeout-ms:200}")
+    private Long receiveTimeout;
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory enrollmentListenerContainerFactory(CachingConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(concurrency);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+}
@@ -0,0 +1,21 @@
+package edu.kalum.core.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class HibernateStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> SENTENCIAS = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static int reset() {
+        int[] contador = SENTENCIAS.get();
+        int total = contador[0];
+        contador[0] = 0;
+        return total;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SENTENCIAS.get()[0]++;
+        return sql;
+    }
+}
@@ -0,0 +1,295 @@
+package edu.kalum.core.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, CompletableFuture<Respuesta>> enCurso = new ConcurrentHashMap<>();
+
+    private Cache<String, Respuesta> respuestas;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${edu.kalum.core.configuration.idempotency.paths:/kalum-management/v1/inscripciones/enrollment,/kalum-management/v1/aspirantes}")
+    private List<String> paths;
+
+    @Value("${edu.kalum.core.configuration.idempotency.spec:maximumWeight=33554432,expireAfterWrite=24h,recordStats}")
+    private String spec;
+
+    @Value("${edu.kalum.core.configuration.idempotency.wait-timeout-ms:10000}")
+    private Long waitTimeout;
+
+    @Value("${edu.kalum.core.configuration.idempotency.max-key-length:255}")
+    private Integer maxKeyLength;
+
+    @Value("${edu.kalum.core.configuration.idempotency.max-body-bytes:65536}")
+    private Integer maxBodyBytes;
+
+    @PostConstruct
+    public void init() {
+        respuestas = Caffeine.from(spec)
+                .weigher((String id, Respuesta respuesta) -> id.length() * 2 + respuesta.peso())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY) == null) {
+            return true;
+        }
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(path -> pathMatcher.match(path, ruta));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String clave = request.getHeader(IDEMPOTENCY_KEY).trim();
+        if (clave.isEmpty() || clave.length() > maxKeyLength) {
+            error(response, HttpStatus.BAD_REQUEST, "El encabezado ".concat(IDEMPOTENCY_KEY).concat(" debe tener entre 1 y ")
+                    .concat(String.valueOf(maxKeyLength)).concat(" caracteres"));
+            return;
+        }
+        byte[] cuerpo = request.getContentLengthLong() > maxBodyBytes ? null : leer(request.getInputStream());
+        if (cuerpo == null) {
+            error(response, HttpStatus.PAYLOAD_TOO_LARGE, "El cuerpo de la solicitud no puede exceder ".concat(String.valueOf(maxBodyBytes)).concat(" bytes"));
+            return;
+        }
+        String huella = huella(cuerpo);
+        Principal principal = request.getUserPrincipal();
+        String id = (principal == null ? "" : principal.getName()).concat(" ").concat(request.getRequestURI()).concat(" ").concat(clave);
+
+        CompletableFuture<Respuesta> propia = new CompletableFuture<>();
+        while (true) {
+            Respuesta guardada = respuestas.getIfPresent(id);
+            if (guardada != null) {
+                repetir(guardada, huella, response);
+                return;
+            }
+            CompletableFuture<Respuesta> previa = enCurso.putIfAbsent(id, propia);
+            if (previa == null) {
+                break;
+            }
+            Respuesta anterior;
+            try {
+                anterior = previa.get(waitTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error(response, HttpStatus.CONFLICT, "La solicitud con la llave de idempotencia ".concat(clave).concat(" aun esta en proceso"));
+                return;
+            } catch (TimeoutException | ExecutionException e) {
+                error(response, HttpStatus.CONFLICT, "La solicitud con la llave de idempotencia ".concat(clave).concat(" aun esta en proceso"));
+                return;
+            }
+            if (anterior != null) {
+                repetir(anterior, huella, response);
+                return;
+            }
+        }
+
+        Respuesta respuesta = respuestas.getIfPresent(id);
+        try {
+            if (respuesta != null) {
+                repetir(respuesta, huella, response);
+                return;
+            }
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CuerpoRequest(request, cuerpo), wrapper);
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                respuesta = new Respuesta(huella, wrapper.getStatus(), wrapper.getContentType(), wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray());
+                respuestas.put(id, respuesta);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            enCurso.remove(id, propia);
+            propia.complete(respuesta);
+        }
+    }
+
+    private void repetir(Respuesta respuesta, String huella, HttpServletResponse response) throws IOException {
+        if (!respuesta.huella.equals(huella)) {
+            error(response, HttpStatus.UNPROCESSABLE_ENTITY, "La llave de idempotencia ya fue utilizada con una solicitud diferente");
+            return;
+        }
+        logger.info("Se devuelve la respuesta almacenada de una solicitud repetida");
+        response.setStatus(respuesta.status);
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (respuesta.contentType != null) {
+            response.setContentType(respuesta.contentType);
+        }
+        if (respuesta.location != null) {
+            response.setHeader(HttpHeaders.LOCATION, respuesta.location);
+        }
+        response.setContentLength(respuesta.cuerpo.length);
+        response.getOutputStream().write(respuesta.cuerpo);
+    }
+
+    private void error(HttpServletResponse response, HttpStatus status, String mensaje) throws IOException {
+        Map<String, Object> cuerpo = new HashMap<>();
+        cuerpo.put("Error", mensaje);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), cuerpo);
+    }
+
+    private byte[] leer(InputStream entrada) throws IOException {
+        ByteArrayOutputStream cuerpo = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int leidos;
+        while ((leidos = entrada.read(buffer)) != -1) {
+            if (cuerpo.size() + leidos > maxBodyBytes) {
+                return null;
+            }
+            cuerpo.write(buffer, 0, leidos);
+        }
+        return cuerpo.toByteArray();
+    }
+
+    private static String huella(byte[] cuerpo) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(cuerpo));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Respuesta {
+        private final String huella;
+        private final int status;
+        private final String contentType;
+        private final String location;
+        private final byte[] cuerpo;
+
+        private Respuesta(String huella, int status, String contentType, String location, byte[] cuerpo) {
+            this.huella = huella;
+            this.status = status;
+            this.contentType = contentType;
+            this.location = location;
+            this.cuerpo = cuerpo;
+        }
+
+        private int peso() {
+            return 64 + huella.length() * 2 + cuerpo.length
+                    + (contentType == null ? 0 : contentType.length() * 2)
+                    + (location == null ? 0 : location.length() * 2);
+        }
+    }
+
+    private static final class CuerpoRequest extends HttpServletRequestWrapper {
+        private final byte[] cuerpo;
+
+        private CuerpoRequest(HttpServletRequest request, byte[] cuerpo) {
+            super(request);
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return cuerpo.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return cuerpo.length;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package edu.kalum.core.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class JdbcBatchConfig {
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && primariaMySql((HikariDataSource) bean)
+                        && environment.getProperty("edu.kalum.core.configuration.jdbc.rewrite-batched-statements", Boolean.class, true)) {
+                    ((HikariDataSource) bean).addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+
+            private boolean primariaMySql(HikariDataSource dataSource) {
+                return !dataSource.isReadOnly() && dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:");
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package edu.kalum.core.configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@PropertySource("classpath:kalum-metrics.properties")
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final String API = "/kalum-management/v1";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public static MeterFilter percentilesMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (conPercentiles(id)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(PERCENTILES)
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    private static boolean conPercentiles(Meter.Id id) {
+        String uri = id.getTag("uri");
+        switch (id.getName()) {
+            case "http.server.requests":
+            case "kalum.http.hibernate.statements":
+                return uri != null && uri.startsWith(API);
+            case "hikaricp.connections.acquire":
+            case "hikaricp.connections.usage":
+            case "kalum.enrollment.publish":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Bean
+    public static HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new HibernateStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementCountInterceptor(meterRegistry.getObject()))
+                .addPathPatterns(API + "/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
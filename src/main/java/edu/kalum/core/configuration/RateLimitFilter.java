@@ -0,0 +1,122 @@
+package edu.kalum.core.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.utils.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 300)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+    public static final String RATE_LIMIT_POLICY = "RateLimit-Policy";
+
+    private static final String API = "/kalum-management/v1";
+
+    private final Map<String, TokenBucketLimiter> limiters = new HashMap<>();
+
+    private final Map<String, Counter> rechazadas = new HashMap<>();
+
+    @Autowired
+    private BulkheadFilter bulkheadFilter;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${edu.kalum.core.configuration.rate-limit.enabled:true}")
+    private Boolean enabled;
+
+    @Value("${edu.kalum.core.configuration.rate-limit.max-keys:100000}")
+    private Long maxKeys;
+
+    @PostConstruct
+    public void init() {
+        limiter(BulkheadFilter.ENROLLMENT, 30, 60, 10);
+        limiter(BulkheadFilter.ESCRITURA, 60, 60, 20);
+        limiter(BulkheadFilter.PAGINADO, 600, 60, 100);
+        limiter(BulkheadFilter.MASIVO, 10, 60, 3);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().substring(request.getContextPath().length()).startsWith(API);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String familia = bulkheadFilter.grupo(request);
+        TokenBucketLimiter limiter = limiters.get(familia);
+        TokenBucketLimiter.Resultado resultado = limiter.tryConsume(familia.concat(":").concat(cliente(request)));
+        response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(limiter.getBurst()));
+        response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(resultado.getRestantes()));
+        response.setHeader(RATE_LIMIT_RESET, String.valueOf(resultado.getReinicioSegundos()));
+        response.setHeader(RATE_LIMIT_POLICY, String.valueOf(limiter.getBurst()).concat(";w=").concat(String.valueOf(limiter.getBurstSeconds()))
+                .concat(", ").concat(String.valueOf(limiter.getLimit())).concat(";w=").concat(String.valueOf(limiter.getPeriodSeconds())));
+        if (!resultado.isPermitido()) {
+            rechazadas.get(familia).increment();
+            Map<String, Object> cuerpo = new HashMap<>();
+            cuerpo.put("Error", "Se excedio el limite de solicitudes permitidas, intente de nuevo en "
+                    .concat(String.valueOf(resultado.getEsperaSegundos())).concat(" segundos"));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(resultado.getEsperaSegundos()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), cuerpo);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String cliente(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal instanceof OAuth2Authentication) {
+            OAuth2Authentication authentication = (OAuth2Authentication) principal;
+            return authentication.isClientOnly()
+                    ? "client:".concat(authentication.getOAuth2Request().getClientId())
+                    : "user:".concat(authentication.getName());
+        }
+        if (principal != null) {
+            return "user:".concat(principal.getName());
+        }
+        return "ip:".concat(request.getRemoteAddr());
+    }
+
+    private void limiter(String familia, int limit, long periodSeconds, int burst) {
+        String prefijo = "edu.kalum.core.configuration.rate-limit.".concat(familia);
+        limiters.put(familia, new TokenBucketLimiter(
+                environment.getProperty(prefijo.concat(".limit"), Integer.class, limit),
+                environment.getProperty(prefijo.concat(".period-seconds"), Long.class, periodSeconds),
+                environment.getProperty(prefijo.concat(".burst"), Integer.class, burst),
+                maxKeys));
+        rechazadas.put(familia, meterRegistry.counter("kalum.rate-limit.rejected", "familia", familia));
+    }
+}
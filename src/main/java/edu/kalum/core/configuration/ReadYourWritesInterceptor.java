@@ -0,0 +1,47 @@
+package edu.kalum.core.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final Cache<String, Boolean> escrituras;
+
+    public ReadYourWritesInterceptor(long ventana, long maxClientes) {
+        this.escrituras = Caffeine.newBuilder()
+                .expireAfterWrite(ventana, TimeUnit.MILLISECONDS)
+                .maximumSize(maxClientes)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String cliente = cliente(request);
+        if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+            if (escrituras.getIfPresent(cliente) != null) {
+                ReplicaRoutingDataSource.forcePrimary();
+            }
+        } else {
+            escrituras.put(cliente, Boolean.TRUE);
+            ReplicaRoutingDataSource.forcePrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.clear();
+    }
+
+    private String cliente(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,57 @@
+package edu.kalum.core.configuration;
+
+import edu.kalum.core.model.dao.services.ICarreraTecnicaService;
+import edu.kalum.core.model.dao.services.IExamenAdmisionService;
+import edu.kalum.core.model.dao.services.IJornadaService;
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
+import edu.kalum.core.model.dtos.ExamenAdmisionDTO;
+import edu.kalum.core.model.dtos.JornadaDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+@Component
+public class ReferenceDataCacheWarmer {
+
+    private Logger logger = LoggerFactory.getLogger(ReferenceDataCacheWarmer.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ICarreraTecnicaService carreraTecnicaService;
+
+    @Autowired
+    private IJornadaService jornadaService;
+
+    @Autowired
+    private IExamenAdmisionService examenAdmisionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Cache carreras = cacheManager.getCache(CacheConfig.CARRERAS_TECNICAS);
+            for (CarreraTecnicaDTO carreraTecnica : carreraTecnicaService.findAllDTO()) {
+                carreras.put(carreraTecnica.getCarreraId(), carreraTecnica);
+            }
+            Cache jornadas = cacheManager.getCache(CacheConfig.JORNADAS);
+            for (JornadaDTO jornada : jornadaService.findAllDTO()) {
+                jornadas.put(jornada.getJornadaId(), jornada);
+            }
+            Cache examenes = cacheManager.getCache(CacheConfig.EXAMENES_ADMISION);
+            for (ExamenAdmisionDTO examenAdmision : examenAdmisionService.findAllDTO()) {
+                examenes.put(examenAdmision.getExamenId(), examenAdmision);
+            }
+            logger.info("Se precargaron los catalogos de carreras, jornadas y examenes de admision");
+        } catch (CannotCreateTransactionException | DataAccessException e) {
+            logger.warn("No se pudieron precargar los catalogos, se cargaran bajo demanda");
+        }
+    }
+}
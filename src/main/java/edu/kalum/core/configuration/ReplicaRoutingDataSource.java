@@ -0,0 +1,67 @@
+package edu.kalum.core.configuration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORZADO = new ThreadLocal<>();
+
+    private final List<String> replicas = new ArrayList<>();
+
+    private final List<DataSource> replicaDataSources;
+
+    private final AtomicInteger siguiente = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources) {
+        this.replicaDataSources = replicaDataSources;
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String replica = "replica-".concat(String.valueOf(i));
+            replicas.add(replica);
+            destinos.put(replica, replicaDataSources.get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORZADO.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_FORZADO.remove();
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicaDataSources;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicaDataSources) {
+            if (replica instanceof AutoCloseable) {
+                ((AutoCloseable) replica).close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || PRIMARY_FORZADO.get() != null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicas.get(Math.floorMod(siguiente.getAndIncrement(), replicas.size()));
+    }
+}
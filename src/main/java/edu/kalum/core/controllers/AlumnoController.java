@@ -1,7 +1,13 @@
 package edu.kalum.core.controllers;
 
 import edu.kalum.core.model.dao.services.IAlumnoService;
+import edu.kalum.core.model.dao.services.IExportService;
+import edu.kalum.core.model.dao.services.ISearchService;
+import edu.kalum.core.model.dtos.CursorPageDTO;
+import edu.kalum.core.model.dtos.SearchResultDTO;
 import edu.kalum.core.model.entities.Alumno;
+import edu.kalum.core.utils.ExportWriter;
+import edu.kalum.core.utils.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +22,10 @@ import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,32 +40,65 @@ public class AlumnoController {
     @Value("${edu.kalum.core.configuration.page.size}")
     private Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
     @Autowired
     private IAlumnoService alumnoService;
 
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
+    @Autowired
+    private IExportService exportService;
+
+    @Autowired
+    private ExportWriter exportWriter;
+
+    @Autowired
+    private ISearchService searchService;
+
     @GetMapping("/alumnos")
-    public ResponseEntity<?> listarAlumnos(){
+    public void listarAlumnos(HttpServletRequest request, HttpServletResponse httpResponse) throws IOException {
         Map<String, Object> response = new HashMap<>();
         logger.info("Inciciando proceso de mostrar alumnos.");
-        try{
-            List<Alumno> alumnos = alumnoService.findAll();
-            if (alumnos == null || alumnos.isEmpty()) {
-                logger.warn("No se encontraron alumnos.");
-                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-            } else{
-                logger.info("Se consulto la tabla de alumnos");
-                return new ResponseEntity<List<Alumno>>(alumnos, HttpStatus.OK);
-            }
+        try {
+            jsonStreamWriter.write(request, httpResponse, alumnoService::streamAll);
+            logger.info("Se consulto la tabla de alumnos");
         } catch (CannotCreateTransactionException e){
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error","no se pudo acceder a la base de datos");
             response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
         } catch (DataAccessException e){
             logger.error("Error al momento de realizar la consulta a la base de datos");
             response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
             response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio el envio del listado de alumnos");
+        }
+    }
+
+    @GetMapping("/alumnos/export")
+    public void exportarAlumnos(@RequestParam(defaultValue = "csv") String formato, @RequestParam(required = false) String ciclo, @RequestParam(required = false) String carreraId, @RequestParam(required = false) String after, HttpServletResponse httpResponse) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de exportar alumnos");
+        try {
+            exportWriter.write(httpResponse, "alumnos", formato, destino -> exportService.exportAlumnos(ciclo, carreraId, after, destino));
+            logger.info("Se exporto la tabla de alumnos");
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error, no se pudo acceder a la base de datos");
+            response.put("Error","no se pudo acceder a la base de datos");
+            response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de realizar la consulta a la base de datos");
+            response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio la exportacion de alumnos");
         }
     }
 
@@ -207,4 +249,54 @@ public class AlumnoController {
             return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
+
+    @GetMapping("/alumnos/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar alumnos por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<Alumno> alumnos = alumnoService.findAfter(CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<Alumno>>(CursorPageDTO.of(alumnos, limite, Alumno::getCarne), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @GetMapping("/alumnos/search")
+    public ResponseEntity<?> buscarAlumnos(@RequestParam(name = "q") String consulta, @RequestParam(name = "size", required = false) Integer tamanio){
+        logger.info("Iniciando proceso de buscar alumnos");
+        Map<String, Object> response = new HashMap<>();
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<SearchResultDTO> resultados = searchService.searchAlumnos(consulta, limite);
+            return new ResponseEntity<List<SearchResultDTO>>(resultados, HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn(e.getMessage());
+            response.put("Mensaje",e.getMessage());
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
@@ -1,14 +1,35 @@
 package edu.kalum.core.controllers;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.model.dao.services.IAspiranteFacetService;
+import edu.kalum.core.model.dao.services.IAspiranteImportService;
 import edu.kalum.core.model.dao.services.IAspiranteService;
 import edu.kalum.core.model.dao.services.ICarreraTecnicaService;
 import edu.kalum.core.model.dao.services.IExamenAdmisionService;
+import edu.kalum.core.model.dao.services.IExportService;
 import edu.kalum.core.model.dao.services.IJornadaService;
+import edu.kalum.core.model.dao.services.ISearchService;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.dtos.AspiranteFacetPageDTO;
+import edu.kalum.core.model.dtos.AspiranteImportDTO;
+import edu.kalum.core.model.dtos.AspiranteImportResponseDTO;
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
+import edu.kalum.core.model.dtos.CursorPageDTO;
+import edu.kalum.core.model.dtos.ExamenAdmisionDTO;
+import edu.kalum.core.model.dtos.JornadaDTO;
+import edu.kalum.core.model.dtos.SearchResultDTO;
 import edu.kalum.core.model.entities.Aspirante;
 import edu.kalum.core.model.entities.CarreraTecnica;
 import edu.kalum.core.model.entities.ExamenAdmision;
 import edu.kalum.core.model.entities.Jornada;
+import edu.kalum.core.utils.CsvReader;
+import edu.kalum.core.utils.ExportWriter;
+import edu.kalum.core.utils.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,15 +39,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -34,11 +65,16 @@ import java.util.stream.Collectors;
 @RequestMapping(value = "/kalum-management/v1")
 public class AspiranteController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     private Logger logger = LoggerFactory.getLogger(AspiranteController.class);
 
     @Value("${edu.kalum.core.configuration.page.size}")
     private Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
     @Autowired
     private IAspiranteService aspiranteService;
 
@@ -51,30 +87,71 @@ public class AspiranteController {
     @Autowired
     private IExamenAdmisionService examenAdmisionService;
 
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
+    @Autowired
+    private IExportService exportService;
+
+    @Autowired
+    private ExportWriter exportWriter;
+
+    @Autowired
+    private ISearchService searchService;
+
+    @Autowired
+    private IAspiranteFacetService aspiranteFacetService;
+
+    @Autowired
+    private IAspiranteImportService aspiranteImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${edu.kalum.core.configuration.aspirante.import.batch-size:1000}")
+    private Integer importBatchSize;
+
     @GetMapping("/aspirantes")
-    public ResponseEntity<?> listarAspirantes(){
+    public void listarAspirantes(HttpServletRequest request, HttpServletResponse httpResponse) throws IOException {
         Map<String, Object> response = new HashMap<>();
         logger.info("Se inicio proceso de listar aspirantes");
         try {
-            List<Aspirante> aspirantes = aspiranteService.findAll();
-            if (aspirantes == null) {
-                logger.warn("Error, No se pudo listar los aspirantes");
-                response.put("Error","No se pudo listar los aspirantes");
-                return new ResponseEntity<Map<String, Object>>(response,HttpStatus.NO_CONTENT);
-            } else {
-                logger.info("Se pudo listar los aspirantes correctamente.");
-                return new ResponseEntity<List<Aspirante>>(aspirantes,HttpStatus.OK);
-            }
-        }  catch (CannotCreateTransactionException e){
+            jsonStreamWriter.write(request, httpResponse, aspiranteService::streamAll);
+            logger.info("Se pudo listar los aspirantes correctamente.");
+        } catch (CannotCreateTransactionException e){
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error","no se pudo acceder a la base de datos");
             response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
         } catch (DataAccessException e){
             logger.error("Error al momento de realizar la consulta a la base de datos");
             response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
             response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio el envio del listado de aspirantes");
+        }
+    }
+
+    @GetMapping("/aspirantes/export")
+    public void exportarAspirantes(@RequestParam(defaultValue = "csv") String formato, @RequestParam(required = false) String carreraId, @RequestParam(required = false) String after, HttpServletResponse httpResponse) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de exportar aspirantes");
+        try {
+            exportWriter.write(httpResponse, "aspirantes", formato, destino -> exportService.exportAspirantes(carreraId, after, destino));
+            logger.info("Se exporto la tabla de aspirantes");
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error, no se pudo acceder a la base de datos");
+            response.put("Error","no se pudo acceder a la base de datos");
+            response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de realizar la consulta a la base de datos");
+            response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio la exportacion de aspirantes");
         }
     }
 
@@ -83,14 +160,14 @@ public class AspiranteController {
         Map<String, Object> response = new HashMap<>();
         logger.info("Se inicio proceso de mostrar aspirante por ID");
         try {
-            Aspirante aspirante = aspiranteService.findById(aspiranteId);
+            AspiranteDTO aspirante = aspiranteService.findDTOById(aspiranteId);
             if (aspirante == null) {
                 logger.warn("Error, No se pudo mostrar el aspirante.");
                 response.put("Error","No se pudo mostrar el aspirante.");
                 return new ResponseEntity<Map<String, Object>>(response,HttpStatus.NO_CONTENT);
             } else {
                 logger.info("Se listo los aspirantes exitosamente");
-                return new ResponseEntity<Aspirante>(aspirante, HttpStatus.OK);
+                return new ResponseEntity<AspiranteDTO>(aspirante, HttpStatus.OK);
             }
         }   catch (CannotCreateTransactionException e){
             logger.error("Error, no se pudo acceder a la base de datos");
@@ -121,30 +198,30 @@ public class AspiranteController {
                 response.put("Mensaje","Ya xiste un registro con el numero de expediente: ".concat(value.getNoExpediente()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             }
-            CarreraTecnica carreraTecnica = carreraTecnicaService.findById(value.getCarreraTecnica().getCarreraId());
+            CarreraTecnicaDTO carreraTecnica = carreraTecnicaService.findDTOById(value.getCarreraTecnica().getCarreraId());
             if (carreraTecnica == null) {
                 logger.warn("No existe la carrera con el id: ".concat(value.getCarreraTecnica().getCarreraId()));
                 response.put("Mensaje","No existe la carrera con el id: ".concat(value.getCarreraTecnica().getCarreraId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setCarreraTecnica(carreraTecnica);
+                value.setCarreraTecnica(new CarreraTecnica(carreraTecnica.getCarreraId(), carreraTecnica.getCarreraTecnica(), null, null));
             }
-            Jornada jornada = jornadaService.findById(value.getJornada().getJornadaId());
+            JornadaDTO jornada = jornadaService.findDTOById(value.getJornada().getJornadaId());
             if (jornada == null) {
                 logger.warn("No existe la jornada con codigo: ".concat(value.getJornada().getJornadaId()));
                 response.put("Mensaje","No existe la jornada con codigo: ".concat(value.getJornada().getJornadaId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setJornada(jornada);
+                value.setJornada(new Jornada(jornada.getJornadaId(), jornada.getJornada(), jornada.getDescripcion(), null));
             }
 
-            ExamenAdmision examenAdmision = examenAdmisionService.findById(value.getExamenAdmision().getExamenId());
+            ExamenAdmisionDTO examenAdmision = examenAdmisionService.findDTOById(value.getExamenAdmision().getExamenId());
             if (examenAdmision == null) {
                 logger.warn("NO existe el examen con el id: ".concat(value.getExamenAdmision().getExamenId()));
                 response.put("Mensaje","NO existe el examen con el id: ".concat(value.getExamenAdmision().getExamenId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setExamenAdmision(examenAdmision);
+                value.setExamenAdmision(new ExamenAdmision(examenAdmision.getExamenId(), examenAdmision.getFechaExamen(), null));
             }
 
             aspiranteService.save(value);
@@ -167,6 +244,111 @@ public class AspiranteController {
 
     }
 
+    @PostMapping(value = "/aspirantes/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public void importarAspirantes(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Iniciando proceso de importar aspirantes");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        Set<String> vistos = new HashSet<>();
+        List<AspiranteImportDTO> lote = new ArrayList<>(importBatchSize);
+        long filas = 0;
+        long insertados = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("Errores");
+            try {
+                if (MediaType.parseMediaType(request.getContentType()).equalsTypeAndSubtype(TEXT_CSV)) {
+                    Charset charset = request.getCharacterEncoding() == null ? StandardCharsets.UTF_8 : Charset.forName(request.getCharacterEncoding());
+                    CsvReader csv = new CsvReader(new InputStreamReader(request.getInputStream(), charset));
+                    List<String> encabezados = csv.next();
+                    Map<String, Integer> columnas = new HashMap<>();
+                    for (int i = 0; encabezados != null && i < encabezados.size(); i++) {
+                        columnas.put(encabezados.get(i).trim().toLowerCase(), i);
+                    }
+                    List<String> registro;
+                    while ((registro = csv.next()) != null) {
+                        if (registro.size() == 1 && registro.get(0).isEmpty()) {
+                            continue;
+                        }
+                        AspiranteImportDTO fila = new AspiranteImportDTO(++filas, columna(registro, columnas, "noexpediente"),
+                                columna(registro, columnas, "apellidos"), columna(registro, columnas, "nombres"),
+                                columna(registro, columnas, "direccion"), columna(registro, columnas, "telefono"),
+                                columna(registro, columnas, "email"), columna(registro, columnas, "estatus"),
+                                columna(registro, columnas, "carreraid"), columna(registro, columnas, "jornadaid"),
+                                columna(registro, columnas, "examenid"));
+                        lote.add(fila);
+                        if (lote.size() == importBatchSize) {
+                            insertados += importarLote(generator, lote, vistos);
+                        }
+                    }
+                } else {
+                    JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream());
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_ARRAY) {
+                        token = parser.nextToken();
+                    }
+                    while (token == JsonToken.START_OBJECT) {
+                        AspiranteImportDTO fila = parser.readValueAs(AspiranteImportDTO.class);
+                        fila.setFila(++filas);
+                        lote.add(fila);
+                        if (lote.size() == importBatchSize) {
+                            insertados += importarLote(generator, lote, vistos);
+                        }
+                        token = parser.nextToken();
+                    }
+                }
+                insertados += importarLote(generator, lote, vistos);
+            } catch (JsonProcessingException e) {
+                logger.error("Error al leer el archivo de aspirantes, ".concat(e.getOriginalMessage()));
+                insertados += importarLote(generator, lote, vistos);
+                generator.writeObject(new AspiranteImportResponseDTO(filas + 1, null, HttpStatus.BAD_REQUEST.value(), "Error al leer el archivo de aspirantes: ".concat(e.getOriginalMessage())));
+            } catch (IllegalArgumentException e) {
+                logger.error("Error al leer el archivo de aspirantes, ".concat(e.getMessage()));
+                insertados += importarLote(generator, lote, vistos);
+                generator.writeObject(new AspiranteImportResponseDTO(filas + 1, null, HttpStatus.BAD_REQUEST.value(), "Error al leer el archivo de aspirantes: ".concat(e.getMessage())));
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("Procesados", filas);
+            generator.writeNumberField("Insertados", insertados);
+            generator.writeEndObject();
+        }
+        logger.info("Se importaron " + insertados + " de " + filas + " aspirantes");
+    }
+
+    private String columna(List<String> registro, Map<String, Integer> columnas, String nombre) {
+        Integer indice = columnas.get(nombre);
+        return indice == null || indice >= registro.size() ? null : registro.get(indice);
+    }
+
+    private int importarLote(JsonGenerator generator, List<AspiranteImportDTO> lote, Set<String> vistos) throws IOException {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        List<AspiranteImportResponseDTO> errores;
+        try {
+            errores = aspiranteImportService.process(lote, vistos);
+        } catch (CannotCreateTransactionException e) {
+            logger.error("Error, no se pudo acceder a la base de datos");
+            errores = errorLote(lote, "no se pudo acceder a la base de datos");
+        } catch (DataAccessException e) {
+            logger.error("Error al momento de insertar el lote de aspirantes en la base de datos");
+            errores = errorLote(lote, "Error al momento de insertar el lote de aspirantes en la base de datos");
+        }
+        for (AspiranteImportResponseDTO error : errores) {
+            generator.writeObject(error);
+        }
+        generator.flush();
+        int insertados = lote.size() - errores.size();
+        lote.clear();
+        return insertados;
+    }
+
+    private List<AspiranteImportResponseDTO> errorLote(List<AspiranteImportDTO> lote, String mensaje) {
+        return lote.stream()
+                .map(fila -> new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.SERVICE_UNAVAILABLE.value(), mensaje))
+                .collect(Collectors.toList());
+    }
+
     @PutMapping("/aspirantes/{noExpediente}")
     public ResponseEntity<?> update(@Valid @RequestBody Aspirante value, BindingResult result, @PathVariable String noExpediente){
         Map<String,Object> response = new HashMap<>();
@@ -182,30 +364,30 @@ public class AspiranteController {
                 response.put("Mensaje","No xiste un aspirante con numero de expediente: ".concat(value.getNoExpediente()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             }
-            CarreraTecnica carreraTecnica = carreraTecnicaService.findById(value.getCarreraTecnica().getCarreraId());
+            CarreraTecnicaDTO carreraTecnica = carreraTecnicaService.findDTOById(value.getCarreraTecnica().getCarreraId());
             if (carreraTecnica == null) {
                 logger.warn("No existe la carrera con el id: ".concat(value.getCarreraTecnica().getCarreraId()));
                 response.put("Mensaje","No existe la carrera con el id: ".concat(value.getCarreraTecnica().getCarreraId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setCarreraTecnica(carreraTecnica);
+                value.setCarreraTecnica(new CarreraTecnica(carreraTecnica.getCarreraId(), carreraTecnica.getCarreraTecnica(), null, null));
             }
-            Jornada jornada = jornadaService.findById(value.getJornada().getJornadaId());
+            JornadaDTO jornada = jornadaService.findDTOById(value.getJornada().getJornadaId());
             if (jornada == null) {
                 logger.warn("No existe la jornada con codigo: ".concat(value.getJornada().getJornadaId()));
                 response.put("Mensaje","No existe la jornada con codigo: ".concat(value.getJornada().getJornadaId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setJornada(jornada);
+                value.setJornada(new Jornada(jornada.getJornadaId(), jornada.getJornada(), jornada.getDescripcion(), null));
             }
 
-            ExamenAdmision examenAdmision = examenAdmisionService.findById(value.getExamenAdmision().getExamenId());
+            ExamenAdmisionDTO examenAdmision = examenAdmisionService.findDTOById(value.getExamenAdmision().getExamenId());
             if (examenAdmision == null) {
                 logger.warn("NO existe el examen con el id: ".concat(value.getExamenAdmision().getExamenId()));
                 response.put("Mensaje","NO existe el examen con el id: ".concat(value.getExamenAdmision().getExamenId()));
                 return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
             } else {
-                value.setExamenAdmision(examenAdmision);
+                value.setExamenAdmision(new ExamenAdmision(examenAdmision.getExamenId(), examenAdmision.getFechaExamen(), null));
             }
 
             aspiranteService.save(value);
@@ -263,14 +445,14 @@ public class AspiranteController {
         logger.info("Inciando proceso de listar aspirantes por pagina");
         try {
             Pageable pageable = PageRequest.of(page,size);
-            Page<Aspirante> aspirantePage = aspiranteService.findAll(pageable);
+            Page<AspiranteDTO> aspirantePage = aspiranteService.findAllDTO(pageable);
             if (aspirantePage == null || aspirantePage.isEmpty()) {
                 logger.warn("Error, no hay aspirantes disponibles");
                 response.put("Error","no hay aspirantes disponibles");
                 return new ResponseEntity<Map<String,Object>>(response, HttpStatus.NO_CONTENT);
             } else {
                 logger.info("Se listo la pagina "+page+ " de aspirantes exitosamente");
-                return new ResponseEntity<Page<Aspirante>>(aspirantePage,HttpStatus.OK);
+                return new ResponseEntity<Page<AspiranteDTO>>(aspirantePage,HttpStatus.OK);
             }
         }catch (CannotCreateTransactionException e){
             logger.error("Error ,No se pudo conectar a la base de datos");
@@ -285,4 +467,79 @@ public class AspiranteController {
         }
     }
 
+    @GetMapping("/aspirantes/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar aspirantes por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<AspiranteDTO> aspirantes = aspiranteService.findAfter(CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<AspiranteDTO>>(CursorPageDTO.of(aspirantes, limite, AspiranteDTO::getNoExpediente), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @GetMapping("/aspirantes/filter")
+    public ResponseEntity<?> filtrarAspirantes(@RequestParam(name = "carreraId", required = false) List<String> carreras,
+                                               @RequestParam(name = "jornadaId", required = false) List<String> jornadas,
+                                               @RequestParam(name = "examenId", required = false) List<String> examenes,
+                                               @RequestParam(required = false) List<String> estatus,
+                                               @RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de filtrar aspirantes");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            AspiranteFacetPageDTO resultado = aspiranteFacetService.filter(carreras, jornadas, examenes, estatus, Math.max(page, 0), limite);
+            return new ResponseEntity<AspiranteFacetPageDTO>(resultado, HttpStatus.OK);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @GetMapping("/aspirantes/search")
+    public ResponseEntity<?> buscarAspirantes(@RequestParam(name = "q") String consulta, @RequestParam(name = "size", required = false) Integer tamanio){
+        logger.info("Iniciando proceso de buscar aspirantes");
+        Map<String, Object> response = new HashMap<>();
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<SearchResultDTO> resultados = searchService.searchAspirantes(consulta, limite);
+            return new ResponseEntity<List<SearchResultDTO>>(resultados, HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn(e.getMessage());
+            response.put("Mensaje",e.getMessage());
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
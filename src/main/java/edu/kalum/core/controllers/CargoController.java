@@ -1,7 +1,9 @@
 package edu.kalum.core.controllers;
 
 import edu.kalum.core.model.dao.services.ICargoService;
+import edu.kalum.core.model.dtos.CursorPageDTO;
 import edu.kalum.core.model.entities.Cargo;
+import edu.kalum.core.utils.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +18,10 @@ import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,31 +37,34 @@ public class CargoController {
     @Value("${edu.kalum.core.configuration.page.size}")
     private Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
     @Autowired
     private ICargoService cargoService;
 
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
     @GetMapping("/cargos")
-    public ResponseEntity<?> listarCargos(){
+    public void listarCargos(HttpServletRequest request, HttpServletResponse httpResponse) throws IOException {
         Map<String, Object> response = new HashMap<>();
-        List<Cargo> cargos = cargoService.findAll();
         logger.info("Iniciando proceso de listar cargos.");
         try {
-            if (cargos == null) {
-                logger.warn("Error, cargos esta vacia");
-                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-            } else {
-                logger.info("Se listo los cargos exitosamente.");
-                return new ResponseEntity<List<Cargo>>(cargos, HttpStatus.OK);
-            } } catch (CannotCreateTransactionException e){
+            jsonStreamWriter.write(request, httpResponse, cargoService::streamAll);
+            logger.info("Se listo los cargos exitosamente.");
+        } catch (CannotCreateTransactionException e){
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error","no se pudo acceder a la base de datos");
             response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
         } catch (DataAccessException e){
             logger.error("Error al momento de realizar la consulta a la base de datos");
             response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
             response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio el envio del listado de cargos");
         }
     }
 
@@ -208,5 +216,30 @@ public class CargoController {
             return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
+
+    @GetMapping("/cargos/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar cargos por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<Cargo> cargos = cargoService.findAfter(CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<Cargo>>(CursorPageDTO.of(cargos, limite, Cargo::getCargoId), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
 
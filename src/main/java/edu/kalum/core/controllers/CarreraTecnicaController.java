@@ -1,16 +1,21 @@
 package edu.kalum.core.controllers;
 
+import edu.kalum.core.model.dao.services.IAspiranteService;
+import edu.kalum.core.model.dao.services.ICarreraTecnicaCatalogService;
 import edu.kalum.core.model.dao.services.ICarreraTecnicaService;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.dtos.CursorPageDTO;
 import edu.kalum.core.model.entities.CarreraTecnica;
+import edu.kalum.core.utils.RenderedResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
@@ -32,9 +37,18 @@ public class CarreraTecnicaController {
     @Value("${edu.kalum.core.configuration.page.size}")
     private  Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
     @Autowired
     private ICarreraTecnicaService carreraTecnicaService;
 
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Autowired
+    private ICarreraTecnicaCatalogService carreraTecnicaCatalogService;
+
     @GetMapping("/carreras-tecnicas")
     public ResponseEntity<?> listarCarrerasTecnicas(){
         Map<String, Object> response = new HashMap<>();
@@ -130,10 +144,11 @@ public class CarreraTecnicaController {
                 response.put("Mensaje","La carrera con el id ".concat(carreraId).concat(" no existe"));
                 return new ResponseEntity<Map<String,Object>>(response, HttpStatus.NOT_FOUND);
             } else {
-                carreraTecnica.setCarreraTecnica(value.getCarreraTecnica());
-                carreraTecnicaService.save(carreraTecnica);
+                CarreraTecnica actualizada = new CarreraTecnica(carreraTecnica.getCarreraId(), value.getCarreraTecnica(),
+                        carreraTecnica.getAspirante(), carreraTecnica.getInscripciones());
+                carreraTecnicaService.save(actualizada);
                 response.put("MEnsaje","La carrera tecnica se actualizo exitosamente");
-                response.put("Carrera tecnica",carreraTecnica);
+                response.put("Carrera tecnica",actualizada);
                 return new ResponseEntity<Map<String , Object>>(response, HttpStatus.OK);
             }
         } catch (CannotCreateTransactionException e){
@@ -177,27 +192,90 @@ public class CarreraTecnicaController {
     }
 
     @GetMapping("/carreras-tecnicas/page/{page}")
-    public ResponseEntity<?> index(@PathVariable int page){
+    public ResponseEntity<?> index(@PathVariable int page, @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding){
         Map<String, Object> response = new HashMap<>();
         try {
-            Pageable pageable = PageRequest.of(page,size);
-            Page<CarreraTecnica> carrerasTecnicasPage = carreraTecnicaService.findAll(pageable);
-            if (carrerasTecnicasPage == null && carrerasTecnicasPage.getSize() == 0) {
-                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-            } else {
-                return new ResponseEntity<Page<CarreraTecnica>>(carrerasTecnicasPage, HttpStatus.OK);
-            }
+            return catalogo(carreraTecnicaCatalogService.renderPage(page, size), encoding);
         }   catch (CannotCreateTransactionException e){
             logger.error("Error ,No se pudo conectar a la base de datos");
             response.put("Mensaje", "Error al momento de conectarse a la base de datos");
             response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
             return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
         }   catch (DataAccessException e){
-            logger.error("Error al momento de eliminar el registro");
-            response.put("Mensaje","Error al momento de eliminar el registro");
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
             response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
             return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
 
+    @GetMapping("/carreras-tecnicas/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio, @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String encoding){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar carreras tecnicas por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            return catalogo(carreraTecnicaCatalogService.renderAfter(cursorCarrera(after), limite), encoding);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private String cursorCarrera(String after) {
+        String carreraId = CursorPageDTO.decode(after);
+        if (!carreraId.isEmpty() && carreraTecnicaService.findDTOById(carreraId) == null) {
+            throw new IllegalArgumentException("El cursor no corresponde a una carrera tecnica");
+        }
+        return carreraId;
+    }
+
+    private ResponseEntity<byte[]> catalogo(RenderedResponse catalogo, String encoding) {
+        boolean gzip = RenderedResponse.acceptsGzip(encoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? catalogo.getGzipEtag() : catalogo.getEtag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? catalogo.getGzip() : catalogo.getBody());
+    }
+
+    @GetMapping("/carreras-tecnicas/{carreraId}/aspirantes")
+    public ResponseEntity<?> listarAspirantes(@PathVariable String carreraId, @RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar aspirantes de la carrera tecnica ".concat(carreraId));
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<AspiranteDTO> aspirantes = aspiranteService.findByCarreraAfter(carreraId, CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<AspiranteDTO>>(CursorPageDTO.of(aspirantes, limite, AspiranteDTO::getNoExpediente), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
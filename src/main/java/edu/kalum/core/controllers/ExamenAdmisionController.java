@@ -1,6 +1,9 @@
 package edu.kalum.core.controllers;
 
+import edu.kalum.core.model.dao.services.IAspiranteService;
 import edu.kalum.core.model.dao.services.IExamenAdmisionService;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.dtos.CursorPageDTO;
 import edu.kalum.core.model.entities.ExamenAdmision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,9 +35,15 @@ public class ExamenAdmisionController {
     @Value("${edu.kalum.core.configuration.page.size}")
     private Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
     @Autowired
     private IExamenAdmisionService examenAdmisionService;
 
+    @Autowired
+    private IAspiranteService aspiranteService;
+
     @GetMapping("/examenes-admision")
     public ResponseEntity<?> listarExamenesAdmision(){
         Map<String, Object> response = new HashMap<>();
@@ -210,4 +219,53 @@ public class ExamenAdmisionController {
         }
     }
 
+    @GetMapping("/examenes-admision/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar examenes admision por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<ExamenAdmision> examenAdmisions = examenAdmisionService.findAfter(CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<ExamenAdmision>>(CursorPageDTO.of(examenAdmisions, limite, ExamenAdmision::getExamenId), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @GetMapping("/examenes-admision/{examenId}/aspirantes")
+    public ResponseEntity<?> listarAspirantes(@PathVariable String examenId, @RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar aspirantes del examen de admision ".concat(examenId));
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<AspiranteDTO> aspirantes = aspiranteService.findByExamenAfter(examenId, CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<AspiranteDTO>>(CursorPageDTO.of(aspirantes, limite, AspiranteDTO::getNoExpediente), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
@@ -1,16 +1,22 @@
 package edu.kalum.core.controllers;
 
-import com.google.gson.Gson;
-import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.Connection;
-import com.rabbitmq.client.ConnectionFactory;
-import edu.kalum.core.model.dao.services.IAspiranteService;
-import edu.kalum.core.model.dao.services.ICarreraTecnicaService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.model.dao.services.IEnrollmentBatchService;
+import edu.kalum.core.model.dao.services.IEnrollmentOutboxService;
+import edu.kalum.core.model.dao.services.IEnrollmentStatusService;
+import edu.kalum.core.model.dao.services.IExportService;
 import edu.kalum.core.model.dao.services.IInscripcionService;
+import edu.kalum.core.model.dtos.CursorPageDTO;
+import edu.kalum.core.model.dtos.EnrollmentOutboxDTO;
 import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
-import edu.kalum.core.model.entities.Aspirante;
-import edu.kalum.core.model.entities.CarreraTecnica;
+import edu.kalum.core.model.dtos.EnrollmentResponseDTO;
 import edu.kalum.core.model.entities.Inscripcion;
+import edu.kalum.core.utils.ExportWriter;
+import edu.kalum.core.utils.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,14 +25,20 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,41 +53,77 @@ public class InscripcionController {
     @Value("${edu.kalum.core.configuration.page.size}")
     private Integer size;
 
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
+
+    @Value("${edu.kalum.core.configuration.enrollment.batch-size:500}")
+    private Integer batchSize;
+
     @Autowired
     private IInscripcionService iInscripcionService;
 
     @Autowired
-    private IAspiranteService iAspiranteService;
+    private IEnrollmentBatchService iEnrollmentBatchService;
+
+    @Autowired
+    private IEnrollmentStatusService iEnrollmentStatusService;
+
+    @Autowired
+    private IEnrollmentOutboxService iEnrollmentOutboxService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
+    @Autowired
+    private IExportService exportService;
 
     @Autowired
-    private ICarreraTecnicaService iCarreraTecnicaService;
+    private ExportWriter exportWriter;
 
     @GetMapping("/inscripciones")
-    public ResponseEntity<?> listarInscripciones() {
+    public void listarInscripciones(HttpServletRequest request, HttpServletResponse httpResponse) throws IOException {
         Map<String, Object> response = new HashMap<>();
         logger.info("Iniciando proceso de listar todas las inscripciones.");
         try {
-            List<Inscripcion> inscripciones = iInscripcionService.findAll();
-            if (inscripciones == null) {
-                logger.warn("No hay inscripciones disponibles.");
-                response.put("Error", "No hay inscripciones disponibles.");
-                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.NO_CONTENT);
-            } else {
-                logger.info("Se listaron las inscripciones exitosamente.");
-                response.put("Mensaje", "Se listaron las inscripciones exitosamente.");
-                return new ResponseEntity<List<Inscripcion>>(inscripciones, HttpStatus.OK);
-            }
-
+            jsonStreamWriter.write(request, httpResponse, iInscripcionService::streamAll);
+            logger.info("Se listaron las inscripciones exitosamente.");
         } catch (CannotCreateTransactionException e) {
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error", "no se pudo acceder a la base de datos");
             response.put("Mensaje", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
         } catch (DataAccessException e) {
             logger.error("Error al momento de realizar la consulta a la base de datos");
             response.put("Mensaje", "Error al momento de realizar la consulta a la base de datos");
             response.put("Error", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e) {
+            logger.warn("Se interrumpio el envio del listado de inscripciones");
+        }
+    }
+
+    @GetMapping("/inscripciones/export")
+    public void exportarInscripciones(@RequestParam(defaultValue = "csv") String formato, @RequestParam(required = false) String ciclo, @RequestParam(required = false) String carreraId, @RequestParam(required = false) String after, HttpServletResponse httpResponse) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de exportar inscripciones");
+        try {
+            exportWriter.write(httpResponse, "inscripciones", formato, destino -> exportService.exportInscripciones(ciclo, carreraId, after, destino));
+            logger.info("Se exporto la tabla de inscripciones");
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error, no se pudo acceder a la base de datos");
+            response.put("Error","no se pudo acceder a la base de datos");
+            response.put("Mensaje",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de realizar la consulta a la base de datos");
+            response.put("Mensaje","Error al momento de realizar la consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e){
+            logger.warn("Se interrumpio la exportacion de inscripciones");
         }
     }
 
@@ -110,7 +158,7 @@ public class InscripcionController {
     @PostMapping("/inscripciones/enrollment")
     public ResponseEntity<?> enrollmentProcess(@Valid @RequestBody EnrollmentRequestDTO request, BindingResult result) {
         Map<String, Object> response = new HashMap<>();
-        logger.info("Iniciando proceso de encolar a RabbitMQ la inscripcion");
+        logger.info("Iniciando proceso de registrar la solicitud de inscripcion");
         if (result.hasErrors()) {
             List<String> errores = result.getFieldErrors()
                     .stream()
@@ -121,26 +169,19 @@ public class InscripcionController {
             return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
         }
         try {
-            Aspirante aspirante = iAspiranteService.findById(request.getNoExpediente());
-            if (aspirante == null) {
-                logger.warn("El aspirante con el expediente: ".concat(request.getNoExpediente()).concat(" no existe"));
-                response.put("Error", "El aspirante con el expediente: ".concat(request.getNoExpediente()).concat(" no existe"));
-                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.NOT_FOUND);
-            }
-            CarreraTecnica carreraTecnica = iCarreraTecnicaService.findById(request.getCarreraId());
-            if (carreraTecnica == null) {
-                logger.warn("La carrera tecnica con el id: ".concat(request.getCarreraId()).concat(" no existe"));
-                response.put("Error", "La carrera tecnica con el id: ".concat(request.getCarreraId()).concat(" no existe"));
-                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.NO_CONTENT);
-            }
-            boolean respuesta = crearSolicitudInscripcion(request);
-            if (respuesta == true){
-                return new ResponseEntity<String>("la solicitud de inscripcion fue generada con exito",HttpStatus.OK);
-            }else {
-                response.put("Error","Error al momento de crear la solicitud de inscripcion con el expediente ".concat(request.getNoExpediente()));
-                response.put("Mensaje","Error al escribir en la cola");
-                return new ResponseEntity<Map<String,Object>>(response,HttpStatus.SERVICE_UNAVAILABLE);
+            EnrollmentOutboxDTO outbox = iEnrollmentOutboxService.enqueue(request);
+            if (outbox.getId() == null) {
+                logger.warn(outbox.getMessage());
+                response.put("Error", outbox.getMessage());
+                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.valueOf(outbox.getStatusCode()));
             }
+            String id = outbox.getId();
+            logger.info("Se registro la solicitud de inscripcion con el id ".concat(id));
+            response.put("Id", id);
+            response.put("Mensaje", outbox.getMessage());
+            HttpHeaders headers = new HttpHeaders();
+            headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(id).toUri());
+            return new ResponseEntity<Map<String, Object>>(response, headers, HttpStatus.ACCEPTED);
         } catch (CannotCreateTransactionException e) {
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error", "no se pudo acceder a la base de datos");
@@ -159,30 +200,110 @@ public class InscripcionController {
         }
     }
 
-    private boolean crearSolicitudInscripcion(EnrollmentRequestDTO request) throws Exception {
-        boolean respuesta = false;
-        Connection connection = null;
-        Channel channel = null;
-        ConnectionFactory factory = new ConnectionFactory();
-        factory.setHost("localhost");
-        factory.setPort(5672);
-        factory.setUsername("guest");
-        factory.setPassword("guest");
-        factory.setVirtualHost("/");
+    @GetMapping("/inscripciones/enrollment/{id}")
+    public ResponseEntity<?> enrollmentStatus(@PathVariable String id) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            EnrollmentResponseDTO status = iEnrollmentStatusService.findById(id);
+            if (status == null) {
+                logger.warn("No existe la solicitud de inscripcion con el id ".concat(id));
+                response.put("Error", "No existe la solicitud de inscripcion con el id ".concat(id));
+                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<EnrollmentResponseDTO>(status, HttpStatus.OK);
+        } catch (CannotCreateTransactionException e) {
+            logger.error("Error, no se pudo acceder a la base de datos");
+            response.put("Error", "no se pudo acceder a la base de datos");
+            response.put("Mensaje", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e) {
+            logger.error("Error al momento de realizar la consulta a la base de datos");
+            response.put("Mensaje", "Error al momento de realizar la consulta a la base de datos");
+            response.put("Error", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 
+    @PostMapping(value = "/inscripciones/enrollment/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void enrollmentBatchProcess(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.info("Iniciando proceso de registrar un lote de solicitudes de inscripcion");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        List<EnrollmentRequestDTO> lote = new ArrayList<>(batchSize);
+        try (JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream());
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_ARRAY) {
+                    token = parser.nextToken();
+                }
+                while (token == JsonToken.START_OBJECT) {
+                    lote.add(parser.readValueAs(EnrollmentRequestDTO.class));
+                    if (lote.size() == batchSize) {
+                        procesarLote(generator, lote);
+                    }
+                    token = parser.nextToken();
+                }
+                procesarLote(generator, lote);
+            } catch (JsonProcessingException e) {
+                logger.error("Error al leer el lote de inscripciones, ".concat(e.getOriginalMessage()));
+                procesarLote(generator, lote);
+                generator.writeObject(new EnrollmentOutboxDTO(null, HttpStatus.BAD_REQUEST.value(), "Error al leer la solicitud de inscripcion: ".concat(e.getOriginalMessage())));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private void procesarLote(JsonGenerator generator, List<EnrollmentRequestDTO> lote) throws IOException {
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<EnrollmentOutboxDTO> resultados;
         try {
-            connection = factory.newConnection();
-            channel = connection.createChannel();
-            String message = new Gson().toJson(request);
-            channel.basicPublish("","",null, message.getBytes(StandardCharsets.UTF_8));
-            respuesta = true;
-        } catch (Exception e){
-            logger.error("Error al escribir a la cola, ".concat(e.getMessage()));
-        } finally {
-            channel.close();
-            connection.close();
+            resultados = iEnrollmentBatchService.process(lote);
+        } catch (CannotCreateTransactionException e) {
+            logger.error("Error, no se pudo acceder a la base de datos");
+            resultados = errorLote(lote, "no se pudo acceder a la base de datos");
+        } catch (DataAccessException e) {
+            logger.error("Error al momento de realizar la consulta a la base de datos");
+            resultados = errorLote(lote, "Error al momento de realizar la consulta a la base de datos");
+        }
+        for (EnrollmentOutboxDTO resultado : resultados) {
+            generator.writeObject(resultado);
         }
-        return respuesta;
+        generator.flush();
+        lote.clear();
     }
 
+    private List<EnrollmentOutboxDTO> errorLote(List<EnrollmentRequestDTO> lote, String mensaje) {
+        return lote.stream()
+                .map(solicitud -> new EnrollmentOutboxDTO(null, HttpStatus.SERVICE_UNAVAILABLE.value(), mensaje))
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/inscripciones/page")
+    public ResponseEntity<?> indexCursor(@RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar inscripciones por cursor");
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<Inscripcion> inscripcions = iInscripcionService.findAfter(CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<Inscripcion>>(CursorPageDTO.of(inscripcions, limite, Inscripcion::getInscripcionId), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
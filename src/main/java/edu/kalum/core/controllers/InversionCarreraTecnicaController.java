@@ -3,16 +3,18 @@ package edu.kalum.core.controllers;
 import edu.kalum.core.model.dao.services.ICarreraTecnicaService;
 import edu.kalum.core.model.dao.services.IInversionCarreraTecnicaService;
 import edu.kalum.core.model.entities.InversionCarreraTecnica;
+import edu.kalum.core.utils.JsonStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,31 +34,28 @@ public class InversionCarreraTecnicaController {
     @Autowired
     private ICarreraTecnicaService iCarreraTecnicaService;
 
+    @Autowired
+    private JsonStreamWriter jsonStreamWriter;
+
     @GetMapping("/inversion-carrera-tecnica")
-    public ResponseEntity<?> listarInversionCarrerasTecnicas(){
+    public void listarInversionCarrerasTecnicas(HttpServletRequest request, HttpServletResponse httpResponse) throws IOException {
         Map<String, Object> response = new HashMap<>();
         logger.info("Iniciando proceso de listar las inversiones por carrera tecnica.");
         try {
-            List<InversionCarreraTecnica> inversionCarreraTecnicas = iInversionCarreraTecnicaService.findAll();
-            if (inversionCarreraTecnicas == null || inversionCarreraTecnicas.isEmpty()) {
-                logger.warn("No hay inversiones de carreras tecnicas disponibles.");
-                response.put("Error","No hay inversiones de carreras tecnicas disponibles.");
-                return new ResponseEntity<Map<String, Object>>(response, HttpStatus.NO_CONTENT);
-            } else {
-                logger.info("Se listaron las inversiones de carreras tecnicas exitosamente.");
-                response.put("Mensaje", "Se listaron las inversiones de carreras tecnicas exitosamente.");
-                return new ResponseEntity<List<InversionCarreraTecnica>>(inversionCarreraTecnicas, HttpStatus.OK);
-            }
+            jsonStreamWriter.write(request, httpResponse, iInversionCarreraTecnicaService::streamAll);
+            logger.info("Se listaron las inversiones de carreras tecnicas exitosamente.");
         } catch (CannotCreateTransactionException e) {
             logger.error("Error, no se pudo acceder a la base de datos");
             response.put("Error", "no se pudo acceder a la base de datos");
             response.put("Mensaje", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
         } catch (DataAccessException e) {
             logger.error("Error al momento de realizar la consulta a la base de datos");
             response.put("Mensaje", "Error al momento de realizar la consulta a la base de datos");
             response.put("Error", e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
-            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+            jsonStreamWriter.writeError(httpResponse, response, e);
+        } catch (IOException e) {
+            logger.warn("Se interrumpio el envio del listado de inversiones de carreras tecnicas");
         }
     }
 
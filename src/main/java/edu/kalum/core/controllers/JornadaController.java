@@ -1,14 +1,59 @@
 package edu.kalum.core.controllers;
 
-import edu.kalum.core.model.dao.services.IJornadaService;
+import edu.kalum.core.model.dao.services.IAspiranteService;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.dtos.CursorPageDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping(value = "/kalum-management/v1")
 public class JornadaController {
 
+    private Logger logger = LoggerFactory.getLogger(JornadaController.class);
+
+    @Value("${edu.kalum.core.configuration.page.size}")
+    private Integer size;
+
+    @Value("${edu.kalum.core.configuration.page.max-size:100}")
+    private Integer maxSize;
 
+    @Autowired
+    private IAspiranteService aspiranteService;
 
+    @GetMapping("/jornadas/{jornadaId}/aspirantes")
+    public ResponseEntity<?> listarAspirantes(@PathVariable String jornadaId, @RequestParam(required = false) String after, @RequestParam(name = "size", required = false) Integer tamanio){
+        Map<String, Object> response = new HashMap<>();
+        logger.info("Iniciando proceso de listar aspirantes de la jornada ".concat(jornadaId));
+        try {
+            int limite = CursorPageDTO.limit(tamanio, size, maxSize);
+            List<AspiranteDTO> aspirantes = aspiranteService.findByJornadaAfter(jornadaId, CursorPageDTO.decode(after), limite + 1);
+            return new ResponseEntity<CursorPageDTO<AspiranteDTO>>(CursorPageDTO.of(aspirantes, limite, AspiranteDTO::getNoExpediente), HttpStatus.OK);
+        } catch (IllegalArgumentException e){
+            logger.warn("El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            response.put("Mensaje","El cursor ".concat(String.valueOf(after)).concat(" no es valido"));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.BAD_REQUEST);
+        } catch (CannotCreateTransactionException e){
+            logger.error("Error ,No se pudo conectar a la base de datos");
+            response.put("Mensaje", "Error al momento de conectarse a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (DataAccessException e){
+            logger.error("Error al momento de consulta a la base de datos");
+            response.put("Mensaje","Error al momento de consulta a la base de datos");
+            response.put("Error",e.getMessage().concat(": ").concat(e.getMostSpecificCause().getMessage()));
+            return new ResponseEntity<Map<String, Object>>(response, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
 }
@@ -0,0 +1,167 @@
+package edu.kalum.core.listeners;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.rabbitmq.client.Channel;
+import edu.kalum.core.model.dao.services.IEnrollmentConsumerService;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "edu.kalum.core.configuration.enrollment.consumer.enabled", havingValue = "true")
+public class EnrollmentListener {
+
+    private Logger logger = LoggerFactory.getLogger(EnrollmentListener.class);
+
+    private static final Gson GSON = new Gson();
+
+    @Value("${edu.kalum.core.configuration.enrollment.queue:kalum.queue.enrollment}")
+    private String queue;
+
+    @Autowired
+    private IEnrollmentConsumerService enrollmentConsumerService;
+
+    @Autowired
+    private AmqpAdmin amqpAdmin;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter procesadas;
+
+    private Counter descartadas;
+
+    private Counter rechazadas;
+
+    private Timer lote;
+
+    private Timer retraso;
+
+    @PostConstruct
+    public void init() {
+        procesadas = meterRegistry.counter("kalum.enrollment.consumer.messages", "resultado", "persistido");
+        descartadas = meterRegistry.counter("kalum.enrollment.consumer.messages", "resultado", "descartado");
+        rechazadas = meterRegistry.counter("kalum.enrollment.consumer.messages", "resultado", "rechazado");
+        lote = meterRegistry.timer("kalum.enrollment.consumer.batch");
+        retraso = meterRegistry.timer("kalum.enrollment.consumer.lag");
+        Gauge.builder("kalum.enrollment.consumer.queue.depth", this, EnrollmentListener::profundidadCola)
+                .register(meterRegistry);
+    }
+
+    @RabbitListener(queues = "${edu.kalum.core.configuration.enrollment.queue:kalum.queue.enrollment}",
+            containerFactory = "enrollmentListenerContainerFactory")
+    public void onEnrollments(List<Message> messages, Channel channel) throws IOException {
+        long inicio = System.nanoTime();
+        long ahora = System.currentTimeMillis();
+        List<Message> validos = new ArrayList<>(messages.size());
+        List<EnrollmentRequestDTO> requests = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            if (message.getMessageProperties().getTimestamp() != null) {
+                retraso.record(ahora - message.getMessageProperties().getTimestamp().getTime(), TimeUnit.MILLISECONDS);
+            }
+            EnrollmentRequestDTO request = leer(message);
+            if (request == null) {
+                rechazar(channel, message, "el mensaje no es una solicitud de inscripcion valida");
+                continue;
+            }
+            validos.add(message);
+            requests.add(request);
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+        int persistidas;
+        try {
+            persistidas = enrollmentConsumerService.process(requests);
+            channel.basicAck(ultimo(validos), true);
+        } catch (RuntimeException e) {
+            if (transitorio(e)) {
+                logger.error("Error al persistir el lote de inscripciones, se devuelve a la cola, ".concat(String.valueOf(e.getMessage())));
+                channel.basicNack(ultimo(validos), true, true);
+                return;
+            }
+            logger.warn("No se pudo persistir el lote de inscripciones, se procesan los mensajes uno a uno, ".concat(String.valueOf(e.getMessage())));
+            persistidas = procesarUnoAUno(channel, validos, requests);
+        }
+        procesadas.increment(persistidas);
+        descartadas.increment(requests.size() - persistidas);
+        lote.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        logger.info("Se persistieron " + persistidas + " inscripciones de un lote de " + messages.size());
+    }
+
+    private int procesarUnoAUno(Channel channel, List<Message> messages, List<EnrollmentRequestDTO> requests) throws IOException {
+        int persistidas = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            long tag = messages.get(i).getMessageProperties().getDeliveryTag();
+            try {
+                persistidas += enrollmentConsumerService.process(Collections.singletonList(requests.get(i)));
+                channel.basicAck(tag, false);
+            } catch (RuntimeException e) {
+                if (transitorio(e)) {
+                    logger.error("Error al persistir la inscripcion, se devuelven a la cola los mensajes restantes, ".concat(String.valueOf(e.getMessage())));
+                    channel.basicNack(ultimo(messages), true, true);
+                    return persistidas;
+                }
+                rechazar(channel, messages.get(i), String.valueOf(e.getMessage()));
+            }
+        }
+        return persistidas;
+    }
+
+    private boolean transitorio(RuntimeException e) {
+        return e instanceof TransactionException
+                || (e instanceof DataAccessException && !(e instanceof NonTransientDataAccessException));
+    }
+
+    private EnrollmentRequestDTO leer(Message message) {
+        try {
+            EnrollmentRequestDTO request = GSON.fromJson(new String(message.getBody(), StandardCharsets.UTF_8), EnrollmentRequestDTO.class);
+            return request == null || request.getNoExpediente() == null ? null : request;
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    private void rechazar(Channel channel, Message message, String motivo) throws IOException {
+        logger.error("Se rechaza el mensaje de inscripcion, ".concat(motivo));
+        rechazadas.increment();
+        channel.basicReject(message.getMessageProperties().getDeliveryTag(), false);
+    }
+
+    private long ultimo(List<Message> messages) {
+        return messages.get(messages.size() - 1).getMessageProperties().getDeliveryTag();
+    }
+
+    private double profundidadCola() {
+        Properties propiedades = amqpAdmin.getQueueProperties(queue);
+        if (propiedades == null || propiedades.get(RabbitAdmin.QUEUE_MESSAGE_COUNT) == null) {
+            return 0;
+        }
+        return ((Number) propiedades.get(RabbitAdmin.QUEUE_MESSAGE_COUNT)).doubleValue();
+    }
+}
@@ -0,0 +1,40 @@
+package edu.kalum.core.model.dao;
+
+import edu.kalum.core.model.entities.Aspirante;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class AspiranteSpecification {
+
+    private AspiranteSpecification() {
+    }
+
+    public static Specification<Aspirante> filtro(Collection<String> carreras, Collection<String> jornadas,
+                                                  Collection<String> examenes, Collection<String> estatus) {
+        return Specification.where(carreraEn(carreras))
+                .and(jornadaEn(jornadas))
+                .and(examenEn(examenes))
+                .and(estatusEn(estatus));
+    }
+
+    public static Specification<Aspirante> carreraEn(Collection<String> carreras) {
+        return vacio(carreras) ? null : (root, query, builder) -> root.get("carreraTecnica").get("carreraId").in(carreras);
+    }
+
+    public static Specification<Aspirante> jornadaEn(Collection<String> jornadas) {
+        return vacio(jornadas) ? null : (root, query, builder) -> root.get("jornada").get("jornadaId").in(jornadas);
+    }
+
+    public static Specification<Aspirante> examenEn(Collection<String> examenes) {
+        return vacio(examenes) ? null : (root, query, builder) -> root.get("examenAdmision").get("examenId").in(examenes);
+    }
+
+    public static Specification<Aspirante> estatusEn(Collection<String> estatus) {
+        return vacio(estatus) ? null : (root, query, builder) -> root.get("estatus").in(estatus);
+    }
+
+    private static boolean vacio(Collection<String> valores) {
+        return valores == null || valores.isEmpty();
+    }
+}
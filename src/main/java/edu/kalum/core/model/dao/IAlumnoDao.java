@@ -1,8 +1,12 @@
 package edu.kalum.core.model.dao;
 
 import edu.kalum.core.model.entities.Alumno;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface IAlumnoDao extends JpaRepository<Alumno,String> {
 
+    public List<Alumno> findByCarneGreaterThanOrderByCarneAsc(String carne, Pageable pageable);
 }
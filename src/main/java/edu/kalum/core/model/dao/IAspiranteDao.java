@@ -1,9 +1,48 @@
 package edu.kalum.core.model.dao;
 
 
+import edu.kalum.core.model.dtos.AspiranteDTO;
 import edu.kalum.core.model.entities.Aspirante;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface IAspiranteDao extends JpaRepository<Aspirante, String> {
 
+    String SELECT_DTO = "select new edu.kalum.core.model.dtos.AspiranteDTO(a.noExpediente, a.apellidos, a.nombres, "
+            + "a.direccion, a.telefono, a.email, a.estatus, e.examenId, e.fechaExamen, j.jornadaId, j.jornada, "
+            + "j.descripcion, c.carreraId, c.carreraTecnica) from Aspirante a left join a.examenAdmision e "
+            + "left join a.jornada j left join a.carreraTecnica c";
+
+    @Query("select a.noExpediente from Aspirante a where a.noExpediente in ?1")
+    public List<String> findNoExpedienteIn(Collection<String> noExpedientes);
+
+    @Query("select c.carreraId, j.jornadaId, e.examenId, a.estatus, count(a) from Aspirante a left join a.carreraTecnica c "
+            + "left join a.jornada j left join a.examenAdmision e group by c.carreraId, j.jornadaId, e.examenId, a.estatus")
+    public List<Object[]> countByFacets();
+
+    @Query("select a.noExpediente, a.jornada.jornadaId from Aspirante a where a.noExpediente in ?1")
+    public List<Object[]> findJornadaIdByNoExpedienteIn(Collection<String> noExpedientes);
+
+    @Query(SELECT_DTO + " where a.noExpediente = ?1")
+    public AspiranteDTO findDTOByNoExpediente(String noExpediente);
+
+    @Query(value = SELECT_DTO, countQuery = "select count(a) from Aspirante a")
+    public Page<AspiranteDTO> findAllDTO(Pageable pageable);
+
+    @Query(SELECT_DTO + " where a.noExpediente > ?1 order by a.noExpediente asc")
+    public List<AspiranteDTO> findDTOByNoExpedienteGreaterThan(String noExpediente, Pageable pageable);
+
+    @Query(SELECT_DTO + " where c.carreraId = ?1 and a.noExpediente > ?2 order by a.noExpediente asc")
+    public List<AspiranteDTO> findDTOByCarreraIdAndNoExpedienteGreaterThan(String carreraId, String noExpediente, Pageable pageable);
+
+    @Query(SELECT_DTO + " where e.examenId = ?1 and a.noExpediente > ?2 order by a.noExpediente asc")
+    public List<AspiranteDTO> findDTOByExamenIdAndNoExpedienteGreaterThan(String examenId, String noExpediente, Pageable pageable);
+
+    @Query(SELECT_DTO + " where j.jornadaId = ?1 and a.noExpediente > ?2 order by a.noExpediente asc")
+    public List<AspiranteDTO> findDTOByJornadaIdAndNoExpedienteGreaterThan(String jornadaId, String noExpediente, Pageable pageable);
 }
@@ -2,8 +2,12 @@ package edu.kalum.core.model.dao;
 
 
 import edu.kalum.core.model.entities.Cargo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface ICargoDao extends JpaRepository<Cargo, String> {
 
+    public List<Cargo> findByCargoIdGreaterThanOrderByCargoIdAsc(String cargoId, Pageable pageable);
 }
@@ -1,8 +1,34 @@
 package edu.kalum.core.model.dao;
 
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
 import edu.kalum.core.model.entities.CarreraTecnica;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ICarreraTecnicaDao extends JpaRepository<CarreraTecnica, String> {
 
+    @Query("select c.carreraId from CarreraTecnica c where c.carreraId in ?1")
+    public List<String> findCarreraIdIn(Collection<String> carreraIds);
+
+    @Query("select c.carreraId from CarreraTecnica c")
+    public List<String> findAllCarreraIds();
+
+    @Query("select new edu.kalum.core.model.dtos.CarreraTecnicaDTO(c.carreraId, c.carreraTecnica) from CarreraTecnica c")
+    public List<CarreraTecnicaDTO> findAllDTO();
+
+    @Query("select new edu.kalum.core.model.dtos.CarreraTecnicaDTO(c.carreraId, c.carreraTecnica) from CarreraTecnica c where c.carreraId = ?1")
+    public CarreraTecnicaDTO findDTOById(String carreraId);
+
+    @Query(value = "select new edu.kalum.core.model.dtos.CarreraTecnicaDTO(c.carreraId, c.carreraTecnica) from CarreraTecnica c",
+            countQuery = "select count(c) from CarreraTecnica c")
+    public Page<CarreraTecnicaDTO> findAllDTO(Pageable pageable);
+
+    @Query("select new edu.kalum.core.model.dtos.CarreraTecnicaDTO(c.carreraId, c.carreraTecnica) from CarreraTecnica c "
+            + "where c.carreraId > ?1 order by c.carreraId asc")
+    public List<CarreraTecnicaDTO> findDTOByCarreraIdGreaterThan(String carreraId, Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package edu.kalum.core.model.dao;
+
+import edu.kalum.core.model.entities.EnrollmentOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+public interface IEnrollmentOutboxDao extends JpaRepository<EnrollmentOutbox, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from EnrollmentOutbox o where o.estado = 'PENDIENTE' and o.siguienteIntento <= ?1 order by o.creado")
+    public List<EnrollmentOutbox> findPendientes(Long ahora, Pageable pageable);
+
+    @Modifying
+    @Query("update EnrollmentOutbox o set o.estado = ?2, o.actualizado = ?3 where o.outboxId in ?1")
+    public int updateEstado(Collection<String> outboxIds, String estado, Long ahora);
+
+    @Modifying
+    @Query("update EnrollmentOutbox o set o.siguienteIntento = ?2, o.actualizado = ?3 where o.outboxId in ?1 and o.estado = 'PENDIENTE'")
+    public int updateSiguienteIntento(Collection<String> outboxIds, Long siguienteIntento, Long ahora);
+
+    @Modifying
+    @Query("delete from EnrollmentOutbox o where o.estado = 'PUBLICADO' and o.actualizado < ?1")
+    public int deletePublicados(Long limite);
+}
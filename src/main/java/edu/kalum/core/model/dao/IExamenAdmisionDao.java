@@ -1,8 +1,23 @@
 package edu.kalum.core.model.dao;
 
+import edu.kalum.core.model.dtos.ExamenAdmisionDTO;
 import edu.kalum.core.model.entities.ExamenAdmision;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface IExamenAdmisionDao extends JpaRepository<ExamenAdmision, String> {
 
+    @Query("select e.examenId from ExamenAdmision e")
+    public List<String> findAllExamenIds();
+
+    @Query("select new edu.kalum.core.model.dtos.ExamenAdmisionDTO(e.examenId, e.fechaExamen) from ExamenAdmision e")
+    public List<ExamenAdmisionDTO> findAllDTO();
+
+    @Query("select new edu.kalum.core.model.dtos.ExamenAdmisionDTO(e.examenId, e.fechaExamen) from ExamenAdmision e where e.examenId = ?1")
+    public ExamenAdmisionDTO findDTOById(String examenId);
+
+    public List<ExamenAdmision> findByExamenIdGreaterThanOrderByExamenIdAsc(String examenId, Pageable pageable);
 }
@@ -2,8 +2,12 @@ package edu.kalum.core.model.dao;
 
 
 import edu.kalum.core.model.entities.Inscripcion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface IInscripcionDao extends JpaRepository<Inscripcion, String> {
 
+    public List<Inscripcion> findByInscripcionIdGreaterThanOrderByInscripcionIdAsc(String inscripcionId, Pageable pageable);
 }
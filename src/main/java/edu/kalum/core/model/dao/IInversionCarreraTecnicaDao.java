@@ -2,8 +2,12 @@ package edu.kalum.core.model.dao;
 
 
 import edu.kalum.core.model.entities.InversionCarreraTecnica;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface IInversionCarreraTecnicaDao extends JpaRepository<InversionCarreraTecnica,String> {
 
+    public List<InversionCarreraTecnica> findByInversionIdGreaterThanOrderByInversionIdAsc(String inversionId, Pageable pageable);
 }
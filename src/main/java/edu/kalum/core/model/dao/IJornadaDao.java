@@ -1,8 +1,20 @@
 package edu.kalum.core.model.dao;
 
+import edu.kalum.core.model.dtos.JornadaDTO;
 import edu.kalum.core.model.entities.Jornada;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface IJornadaDao extends JpaRepository<Jornada,String> {
 
+    @Query("select j.jornadaId from Jornada j")
+    public List<String> findAllJornadaIds();
+
+    @Query("select new edu.kalum.core.model.dtos.JornadaDTO(j.jornadaId, j.jornada, j.descripcion) from Jornada j")
+    public List<JornadaDTO> findAllDTO();
+
+    @Query("select new edu.kalum.core.model.dtos.JornadaDTO(j.jornadaId, j.jornada, j.descripcion) from Jornada j where j.jornadaId = ?1")
+    public JornadaDTO findDTOById(String jornadaId);
 }
@@ -10,4 +10,7 @@ public interface IUsuarioDao extends JpaRepository<Usuario, Long> {
     @Query("select u from Usuario u where u.email = ?1")
     public Usuario findByEmail(String email);
 
+    @Query("select distinct u from Usuario u left join fetch u.roles where u.userName = ?1")
+    public Usuario findByUserNameFetchRoles(String username);
+
 }
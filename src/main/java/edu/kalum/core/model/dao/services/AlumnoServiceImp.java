@@ -3,11 +3,17 @@ package edu.kalum.core.model.dao.services;
 import edu.kalum.core.model.dao.IAlumnoDao;
 import edu.kalum.core.model.entities.Alumno;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class AlumnoServiceImp implements IAlumnoService {
@@ -15,7 +21,17 @@ public class AlumnoServiceImp implements IAlumnoService {
     @Autowired
     private IAlumnoDao alumnoDao;
 
+    @Autowired
+    private ISearchService searchService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edu.kalum.core.configuration.stream.chunk-size:500}")
+    private Integer chunkSize;
+
     @Override
+    @Transactional(readOnly = true)
     public List<Alumno> findAll() {
         return alumnoDao.findAll();
     }
@@ -27,16 +43,31 @@ public class AlumnoServiceImp implements IAlumnoService {
 
     @Override
     public Alumno save(Alumno alumno) {
-        return alumnoDao.save(alumno);
+        Alumno guardado = alumnoDao.save(alumno);
+        searchService.indexAlumno(guardado.getCarne(), guardado.getNombres(), guardado.getApellidos(), guardado.getEmail(), guardado.getTelefono());
+        return guardado;
     }
     @Override
     public void delete(Alumno alumno) {
         alumnoDao.delete(alumno);
+        searchService.removeAlumno(alumno.getCarne());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Alumno> findAll(Pageable pageable) {
         return alumnoDao.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Alumno> findAfter(String after, int size) {
+        return alumnoDao.findByCarneGreaterThanOrderByCarneAsc(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Alumno> consumer) {
+        KeysetStream.forEach(this::findAfter, Alumno::getCarne, chunkSize, entityManager, consumer);
+    }
 }
@@ -0,0 +1,68 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dao.AspiranteSpecification;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.dtos.AspiranteFacetPageDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class AspiranteFacetServiceImp implements IAspiranteFacetService {
+
+    private static final String[] FACETAS = {"carreraTecnica", "jornada", "examenAdmision", "estatus"};
+
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Override
+    public AspiranteFacetPageDTO filter(List<String> carreras, List<String> jornadas, List<String> examenes,
+                                        List<String> estatus, int page, int size) {
+        List<List<String>> filtros = Arrays.asList(carreras, jornadas, examenes, estatus);
+        List<Map<String, Long>> conteos = Arrays.asList(new TreeMap<>(), new TreeMap<>(), new TreeMap<>(), new TreeMap<>());
+        long total = 0;
+        for (Object[] celda : aspiranteService.findFacetCounts()) {
+            long cantidad = ((Number) celda[FACETAS.length]).longValue();
+            int fallos = 0;
+            int fallida = -1;
+            for (int i = 0; i < FACETAS.length; i++) {
+                if (!coincide(filtros.get(i), celda[i])) {
+                    fallos++;
+                    fallida = i;
+                }
+            }
+            if (fallos == 0) {
+                total += cantidad;
+                for (int i = 0; i < FACETAS.length; i++) {
+                    contar(conteos.get(i), celda[i], cantidad);
+                }
+            } else if (fallos == 1) {
+                contar(conteos.get(fallida), celda[fallida], cantidad);
+            }
+        }
+        Map<String, Map<String, Long>> facetas = new LinkedHashMap<>();
+        for (int i = 0; i < FACETAS.length; i++) {
+            facetas.put(FACETAS[i], conteos.get(i));
+        }
+        List<AspiranteDTO> contenido = total == 0 ? Collections.<AspiranteDTO>emptyList()
+                : aspiranteService.findAllDTO(AspiranteSpecification.filtro(carreras, jornadas, examenes, estatus), PageRequest.of(page, size));
+        return new AspiranteFacetPageDTO(contenido, page, size, total, facetas);
+    }
+
+    private boolean coincide(List<String> filtro, Object valor) {
+        return filtro == null || filtro.isEmpty() || filtro.contains(valor);
+    }
+
+    private void contar(Map<String, Long> conteo, Object valor, long cantidad) {
+        if (valor != null) {
+            conteo.merge((String) valor, cantidad, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dao.ICarreraTecnicaDao;
+import edu.kalum.core.model.dao.IExamenAdmisionDao;
+import edu.kalum.core.model.dao.IJornadaDao;
+import edu.kalum.core.model.dtos.AspiranteImportDTO;
+import edu.kalum.core.model.dtos.AspiranteImportResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class AspiranteImportServiceImp implements IAspiranteImportService {
+
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Autowired
+    private ICarreraTecnicaDao carreraTecnicaDao;
+
+    @Autowired
+    private IJornadaDao jornadaDao;
+
+    @Autowired
+    private IExamenAdmisionDao examenAdmisionDao;
+
+    @Autowired
+    private ISearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${edu.kalum.core.configuration.aspirante.import.reference-ttl-ms:60000}")
+    private Long referenceTtl;
+
+    private volatile Referencias referencias;
+
+    @Override
+    @Transactional
+    public List<AspiranteImportResponseDTO> process(List<AspiranteImportDTO> lote, Set<String> vistos) {
+        Referencias actuales = referencias();
+        Set<String> expedientes = lote.stream().map(AspiranteImportDTO::getNoExpediente).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> existentes = expedientes.isEmpty() ? expedientes : new HashSet<>(aspiranteService.findExistingIds(expedientes));
+
+        List<AspiranteImportResponseDTO> validaciones = lote.parallelStream()
+                .map(fila -> validar(fila, actuales, existentes))
+                .collect(Collectors.toList());
+
+        List<AspiranteImportResponseDTO> errores = new ArrayList<>();
+        List<AspiranteImportDTO> validas = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            AspiranteImportDTO fila = lote.get(i);
+            AspiranteImportResponseDTO error = validaciones.get(i);
+            if (error == null && !vistos.add(fila.getNoExpediente())) {
+                error = new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), "El numero de expediente esta repetido en el archivo");
+            }
+            if (error == null) {
+                validas.add(fila);
+            } else {
+                errores.add(error);
+            }
+        }
+        if (!validas.isEmpty()) {
+            saveAll(validas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    for (AspiranteImportDTO aspirante : validas) {
+                        searchService.indexAspirante(aspirante.getNoExpediente(), aspirante.getNombres(), aspirante.getApellidos(), aspirante.getEmail(), aspirante.getTelefono());
+                    }
+                }
+            });
+        }
+        return errores;
+    }
+
+    private AspiranteImportResponseDTO validar(AspiranteImportDTO fila, Referencias actuales, Set<String> existentes) {
+        Set<ConstraintViolation<AspiranteImportDTO>> violaciones = validator.validate(fila);
+        if (!violaciones.isEmpty()) {
+            String errores = violaciones.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(", "));
+            return new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), errores);
+        }
+        if (existentes.contains(fila.getNoExpediente())) {
+            return new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), "Ya xiste un registro con el numero de expediente: ".concat(fila.getNoExpediente()));
+        }
+        if (!actuales.carreras.contains(fila.getCarreraId())) {
+            return new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), "No existe la carrera con el id: ".concat(fila.getCarreraId()));
+        }
+        if (!actuales.jornadas.contains(fila.getJornadaId())) {
+            return new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), "No existe la jornada con codigo: ".concat(fila.getJornadaId()));
+        }
+        if (!actuales.examenes.contains(fila.getExamenId())) {
+            return new AspiranteImportResponseDTO(fila.getFila(), fila.getNoExpediente(), HttpStatus.BAD_REQUEST.value(), "NO existe el examen con el id: ".concat(fila.getExamenId()));
+        }
+        return null;
+    }
+
+    private void saveAll(List<AspiranteImportDTO> aspirantes) {
+        jdbcTemplate.batchUpdate(
+                "insert into ASPIRANTE (NO_EXPEDIENTE, APELLIDOS, NOMBRES, DIRECCION, TELEFONO, EMAIL, ESTATUS, EXAMEN_ID, JORNADA, CARRERA_ID) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                aspirantes, aspirantes.size(), (ps, aspirante) -> {
+                    ps.setString(1, aspirante.getNoExpediente());
+                    ps.setString(2, aspirante.getApellidos());
+                    ps.setString(3, aspirante.getNombres());
+                    ps.setString(4, aspirante.getDireccion());
+                    ps.setString(5, aspirante.getTelefono());
+                    ps.setString(6, aspirante.getEmail());
+                    ps.setString(7, aspirante.getEstatus());
+                    ps.setString(8, aspirante.getExamenId());
+                    ps.setString(9, aspirante.getJornadaId());
+                    ps.setString(10, aspirante.getCarreraId());
+                });
+    }
+
+    private Referencias referencias() {
+        Referencias actuales = referencias;
+        if (actuales == null || System.currentTimeMillis() - actuales.cargado > referenceTtl) {
+            actuales = new Referencias(new HashSet<>(carreraTecnicaDao.findAllCarreraIds()),
+                    new HashSet<>(jornadaDao.findAllJornadaIds()),
+                    new HashSet<>(examenAdmisionDao.findAllExamenIds()));
+            referencias = actuales;
+        }
+        return actuales;
+    }
+
+    private static final class Referencias {
+        private final Set<String> carreras;
+        private final Set<String> jornadas;
+        private final Set<String> examenes;
+        private final long cargado = System.currentTimeMillis();
+
+        private Referencias(Set<String> carreras, Set<String> jornadas, Set<String> examenes) {
+            this.carreras = carreras;
+            this.jornadas = jornadas;
+            this.examenes = examenes;
+        }
+    }
+}
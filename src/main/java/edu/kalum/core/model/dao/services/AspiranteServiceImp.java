@@ -1,13 +1,33 @@
 package edu.kalum.core.model.dao.services;
 
 import edu.kalum.core.model.dao.IAspiranteDao;
+import edu.kalum.core.model.dtos.AspiranteDTO;
 import edu.kalum.core.model.entities.Aspirante;
+import edu.kalum.core.model.entities.CarreraTecnica;
+import edu.kalum.core.model.entities.ExamenAdmision;
+import edu.kalum.core.model.entities.Jornada;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class AspiranteServiceImp implements IAspiranteService{
@@ -15,7 +35,17 @@ public class AspiranteServiceImp implements IAspiranteService{
     @Autowired
     private IAspiranteDao aspiranteDao;
 
+    @Autowired
+    private ISearchService searchService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edu.kalum.core.configuration.stream.chunk-size:500}")
+    private Integer chunkSize;
+
     @Override
+    @Transactional(readOnly = true)
     public List<Aspirante> findAll() {
         return aspiranteDao.findAll();
     }
@@ -27,17 +57,104 @@ public class AspiranteServiceImp implements IAspiranteService{
 
     @Override
     public Aspirante save(Aspirante aspirante) {
-        return aspiranteDao.save(aspirante);
+        Aspirante guardado = aspiranteDao.save(aspirante);
+        searchService.indexAspirante(guardado.getNoExpediente(), guardado.getNombres(), guardado.getApellidos(), guardado.getEmail(), guardado.getTelefono());
+        return guardado;
     }
 
     @Override
     public void delete(Aspirante aspirante) {
         aspiranteDao.delete(aspirante);
+        searchService.removeAspirante(aspirante.getNoExpediente());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Aspirante> findAll(Pageable pageable) {
         return aspiranteDao.findAll(pageable);
     }
 
+    @Override
+    public List<String> findExistingIds(Collection<String> noExpedientes) {
+        return aspiranteDao.findNoExpedienteIn(noExpedientes);
+    }
+
+    @Override
+    public Map<String, String> findJornadaIds(Collection<String> noExpedientes) {
+        Map<String, String> jornadas = new HashMap<>();
+        for (Object[] fila : aspiranteDao.findJornadaIdByNoExpedienteIn(noExpedientes)) {
+            jornadas.put((String) fila[0], (String) fila[1]);
+        }
+        return jornadas;
+    }
+
+    @Override
+    public AspiranteDTO findDTOById(String aspiranteId) {
+        return aspiranteDao.findDTOByNoExpediente(aspiranteId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AspiranteDTO> findAllDTO(Pageable pageable) {
+        return aspiranteDao.findAllDTO(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AspiranteDTO> findAllDTO(Specification<Aspirante> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AspiranteDTO> query = builder.createQuery(AspiranteDTO.class);
+        Root<Aspirante> aspirante = query.from(Aspirante.class);
+        Join<Aspirante, ExamenAdmision> examen = aspirante.join("examenAdmision", JoinType.LEFT);
+        Join<Aspirante, Jornada> jornada = aspirante.join("jornada", JoinType.LEFT);
+        Join<Aspirante, CarreraTecnica> carrera = aspirante.join("carreraTecnica", JoinType.LEFT);
+        query.select(builder.construct(AspiranteDTO.class, aspirante.get("noExpediente"), aspirante.get("apellidos"),
+                aspirante.get("nombres"), aspirante.get("direccion"), aspirante.get("telefono"), aspirante.get("email"),
+                aspirante.get("estatus"), examen.get("examenId"), examen.get("fechaExamen"), jornada.get("jornadaId"),
+                jornada.get("jornada"), jornada.get("descripcion"), carrera.get("carreraId"), carrera.get("carreraTecnica")));
+        Predicate predicate = specification == null ? null : specification.toPredicate(aspirante, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(builder.asc(aspirante.get("noExpediente")));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<Object[]> findFacetCounts() {
+        return aspiranteDao.countByFacets();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AspiranteDTO> findAfter(String after, int size) {
+        return aspiranteDao.findDTOByNoExpedienteGreaterThan(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AspiranteDTO> findByCarreraAfter(String carreraId, String after, int size) {
+        return aspiranteDao.findDTOByCarreraIdAndNoExpedienteGreaterThan(carreraId, after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AspiranteDTO> findByExamenAfter(String examenId, String after, int size) {
+        return aspiranteDao.findDTOByExamenIdAndNoExpedienteGreaterThan(examenId, after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AspiranteDTO> findByJornadaAfter(String jornadaId, String after, int size) {
+        return aspiranteDao.findDTOByJornadaIdAndNoExpedienteGreaterThan(jornadaId, after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<AspiranteDTO> consumer) {
+        KeysetStream.forEach(this::findAfter, AspiranteDTO::getNoExpediente, chunkSize, entityManager, consumer);
+    }
 }
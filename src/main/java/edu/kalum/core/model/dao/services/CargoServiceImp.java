@@ -3,11 +3,17 @@ package edu.kalum.core.model.dao.services;
 import edu.kalum.core.model.dao.ICargoDao;
 import edu.kalum.core.model.entities.Cargo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class CargoServiceImp implements ICargoService {
@@ -15,6 +21,12 @@ public class CargoServiceImp implements ICargoService {
     @Autowired
     private ICargoDao cargoDao;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edu.kalum.core.configuration.stream.chunk-size:500}")
+    private Integer chunkSize;
+
 
     @Override
     public List<Cargo> findAll() {
@@ -40,4 +52,15 @@ public class CargoServiceImp implements ICargoService {
     public Page findAll(Pageable pageable) {
         return cargoDao.findAll(pageable);
     }
+
+    @Override
+    public List<Cargo> findAfter(String after, int size) {
+        return cargoDao.findByCargoIdGreaterThanOrderByCargoIdAsc(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Cargo> consumer) {
+        KeysetStream.forEach(this::findAfter, Cargo::getCargoId, chunkSize, entityManager, consumer);
+    }
 }
@@ -0,0 +1,42 @@
+package edu.kalum.core.model.dao.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
+import edu.kalum.core.model.dtos.CursorPageDTO;
+import edu.kalum.core.utils.RenderedResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Service
+public class CarreraTecnicaCatalogServiceImp implements ICarreraTecnicaCatalogService {
+
+    @Autowired
+    private ICarreraTecnicaService carreraTecnicaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public RenderedResponse renderPage(int page, int size) {
+        return render(carreraTecnicaService.findAllDTO(PageRequest.of(page, size)));
+    }
+
+    @Override
+    public RenderedResponse renderAfter(String after, int size) {
+        List<CarreraTecnicaDTO> carreraTecnicas = carreraTecnicaService.findAfter(after, size + 1);
+        return render(CursorPageDTO.of(carreraTecnicas, size, CarreraTecnicaDTO::getCarreraId));
+    }
+
+    private RenderedResponse render(Object valor) {
+        try {
+            return RenderedResponse.of(objectMapper.writeValueAsBytes(valor));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package edu.kalum.core.model.dao.services;
 
 import edu.kalum.core.model.dao.ICarreraTecnicaDao;
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
 import edu.kalum.core.model.entities.CarreraTecnica;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -25,11 +28,26 @@ public class CarreraTecnicaServiceImp implements ICarreraTecnicaService{
         return carreraTecnicaDao.findAll(pageable);
     }
 
+    @Override
+    public Page<CarreraTecnicaDTO> findAllDTO(Pageable pageable) {
+        return carreraTecnicaDao.findAllDTO(pageable);
+    }
+
     @Override
     public CarreraTecnica findById(String carreraId) {
         return carreraTecnicaDao.findById(carreraId).orElse(null);
     }
 
+    @Override
+    public List<CarreraTecnicaDTO> findAllDTO() {
+        return carreraTecnicaDao.findAllDTO();
+    }
+
+    @Override
+    public CarreraTecnicaDTO findDTOById(String carreraId) {
+        return carreraTecnicaDao.findDTOById(carreraId);
+    }
+
     @Override
     public CarreraTecnica save(CarreraTecnica carreraTecnica) {
         return carreraTecnicaDao.save(carreraTecnica);
@@ -39,4 +57,14 @@ public class CarreraTecnicaServiceImp implements ICarreraTecnicaService{
     public void delete(CarreraTecnica carreraTecnica) {
         carreraTecnicaDao.delete(carreraTecnica);
     }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> carreraIds) {
+        return carreraTecnicaDao.findCarreraIdIn(carreraIds);
+    }
+
+    @Override
+    public List<CarreraTecnicaDTO> findAfter(String after, int size) {
+        return carreraTecnicaDao.findDTOByCarreraIdGreaterThan(after, PageRequest.of(0, size));
+    }
 }
\ No newline at end of file
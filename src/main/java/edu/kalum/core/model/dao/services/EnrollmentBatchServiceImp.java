@@ -0,0 +1,83 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentOutboxDTO;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class EnrollmentBatchServiceImp implements IEnrollmentBatchService {
+
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Autowired
+    private ICarreraTecnicaService carreraTecnicaService;
+
+    @Autowired
+    private IEnrollmentOutboxService enrollmentOutboxService;
+
+    @Autowired
+    private Validator validator;
+
+    @Override
+    @Transactional
+    public List<EnrollmentOutboxDTO> process(List<EnrollmentRequestDTO> requests) {
+        Set<String> expedientes = ids(requests, EnrollmentRequestDTO::getNoExpediente);
+        expedientes = expedientes.isEmpty() ? expedientes : new HashSet<>(aspiranteService.findExistingIds(expedientes));
+        Set<String> carreras = ids(requests, EnrollmentRequestDTO::getCarreraId);
+        carreras = carreras.isEmpty() ? carreras : new HashSet<>(carreraTecnicaService.findExistingIds(carreras));
+
+        List<EnrollmentOutboxDTO> resultados = new ArrayList<>(requests.size());
+        List<EnrollmentRequestDTO> validas = new ArrayList<>(requests.size());
+        for (EnrollmentRequestDTO request : requests) {
+            EnrollmentOutboxDTO error = validar(request, expedientes, carreras);
+            resultados.add(error);
+            if (error == null) {
+                validas.add(request);
+            }
+        }
+        if (validas.isEmpty()) {
+            return resultados;
+        }
+        Iterator<EnrollmentOutboxDTO> registradas = enrollmentOutboxService.enqueueAll(validas).iterator();
+        for (int i = 0; i < resultados.size(); i++) {
+            if (resultados.get(i) == null) {
+                resultados.set(i, registradas.next());
+            }
+        }
+        return resultados;
+    }
+
+    private Set<String> ids(List<EnrollmentRequestDTO> requests, Function<EnrollmentRequestDTO, String> id) {
+        return requests.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private EnrollmentOutboxDTO validar(EnrollmentRequestDTO request, Set<String> expedientes, Set<String> carreras) {
+        Set<ConstraintViolation<EnrollmentRequestDTO>> violaciones = validator.validate(request);
+        if (!violaciones.isEmpty()) {
+            String errores = violaciones.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining(", "));
+            return new EnrollmentOutboxDTO(null, HttpStatus.BAD_REQUEST.value(), errores);
+        }
+        if (!expedientes.contains(request.getNoExpediente())) {
+            return new EnrollmentOutboxDTO(null, HttpStatus.NOT_FOUND.value(), "El aspirante con el expediente: ".concat(String.valueOf(request.getNoExpediente())).concat(" no existe"));
+        }
+        if (!carreras.contains(request.getCarreraId())) {
+            return new EnrollmentOutboxDTO(null, HttpStatus.NOT_FOUND.value(), "La carrera tecnica con el id: ".concat(String.valueOf(request.getCarreraId())).concat(" no existe"));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,70 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import edu.kalum.core.model.entities.Inscripcion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class EnrollmentConsumerServiceImp implements IEnrollmentConsumerService {
+
+    private Logger logger = LoggerFactory.getLogger(EnrollmentConsumerServiceImp.class);
+
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Autowired
+    private ICarreraTecnicaService carreraTecnicaService;
+
+    @Autowired
+    private IInscripcionService inscripcionService;
+
+    @Override
+    @Transactional
+    public int process(List<EnrollmentRequestDTO> requests) {
+        Map<String, String> jornadas = aspiranteService.findJornadaIds(requests.stream()
+                .map(EnrollmentRequestDTO::getNoExpediente)
+                .collect(Collectors.toSet()));
+        Set<String> carreras = requests.stream()
+                .map(EnrollmentRequestDTO::getCarreraId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        carreras = carreras.isEmpty() ? carreras : new HashSet<>(carreraTecnicaService.findExistingIds(carreras));
+        String fechaInscripcion = LocalDate.now().toString();
+        List<Inscripcion> inscripciones = new ArrayList<>(requests.size());
+        for (EnrollmentRequestDTO request : requests) {
+            if (!jornadas.containsKey(request.getNoExpediente())) {
+                logger.warn("Se descarta la solicitud, no existe el aspirante con el expediente: ".concat(String.valueOf(request.getNoExpediente())));
+                continue;
+            }
+            if (!carreras.contains(request.getCarreraId())) {
+                logger.warn("Se descarta la solicitud, no existe la carrera tecnica con el id: ".concat(String.valueOf(request.getCarreraId())));
+                continue;
+            }
+            Inscripcion inscripcion = new Inscripcion();
+            inscripcion.setInscripcionId(UUID.randomUUID().toString());
+            inscripcion.setCarne(request.getNoExpediente());
+            inscripcion.setJornadaId(jornadas.get(request.getNoExpediente()));
+            inscripcion.setCiclo(request.getCiclo());
+            inscripcion.setFechaInscripcion(fechaInscripcion);
+            inscripciones.add(inscripcion);
+        }
+        if (!inscripciones.isEmpty()) {
+            inscripcionService.saveAll(inscripciones);
+        }
+        return inscripciones.size();
+    }
+}
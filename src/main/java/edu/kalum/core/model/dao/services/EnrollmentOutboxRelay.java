@@ -0,0 +1,132 @@
+package edu.kalum.core.model.dao.services;
+
+import com.google.gson.Gson;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import edu.kalum.core.model.entities.EnrollmentOutbox;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class EnrollmentOutboxRelay {
+
+    private Logger logger = LoggerFactory.getLogger(EnrollmentOutboxRelay.class);
+
+    private static final Gson GSON = new Gson();
+
+    private enum Resultado { CONFIRMADO, FALLIDO, RECHAZADO }
+
+    @Autowired
+    private IEnrollmentOutboxService enrollmentOutboxService;
+
+    @Autowired
+    private IEnrollmentPublisherService enrollmentPublisherService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.batch-size:256}")
+    private Integer batchSize;
+
+    @Value("${edu.kalum.core.configuration.enrollment.confirm-timeout-ms:5000}")
+    private Long confirmTimeout;
+
+    @PostConstruct
+    public void init() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        if (!dialect.supportsSkipLocked()) {
+            logger.warn("El dialecto ".concat(dialect.getClass().getSimpleName())
+                    .concat(" no soporta SKIP LOCKED (MySQL 8 o superior), las instancias publicaran la bandeja de salida una a la vez"));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${edu.kalum.core.configuration.enrollment.outbox.poll-interval-ms:200}")
+    public void drain() {
+        try {
+            while (relay() >= batchSize) {
+                logger.debug("Se publico un lote completo de la bandeja de salida de inscripciones");
+            }
+        } catch (CannotCreateTransactionException e) {
+            logger.error("Error, no se pudo acceder a la base de datos para publicar la bandeja de salida");
+        } catch (DataAccessException e) {
+            logger.error("Error al leer la bandeja de salida de inscripciones, ".concat(String.valueOf(e.getMessage())));
+        }
+    }
+
+    private int relay() {
+        List<EnrollmentOutbox> pendientes = enrollmentOutboxService.claim();
+        if (pendientes.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Boolean>> publicaciones = new ArrayList<>(pendientes.size());
+        for (EnrollmentOutbox pendiente : pendientes) {
+            publicaciones.add(enrollmentPublisherService.publishAsync(GSON.fromJson(pendiente.getPayload(), EnrollmentRequestDTO.class)));
+        }
+        long limite = System.currentTimeMillis() + confirmTimeout;
+        List<String> confirmadas = new ArrayList<>(pendientes.size());
+        List<String> fallidas = new ArrayList<>();
+        List<String> rechazadas = new ArrayList<>();
+        for (int i = 0; i < pendientes.size(); i++) {
+            String outboxId = pendientes.get(i).getOutboxId();
+            switch (esperarConfirmacion(publicaciones.get(i), limite)) {
+                case CONFIRMADO:
+                    confirmadas.add(outboxId);
+                    break;
+                case RECHAZADO:
+                    rechazadas.add(outboxId);
+                    break;
+                default:
+                    fallidas.add(outboxId);
+            }
+        }
+        enrollmentOutboxService.complete(confirmadas, fallidas, rechazadas);
+        if (!rechazadas.isEmpty()) {
+            logger.warn("Se reprogramaron ".concat(String.valueOf(rechazadas.size()))
+                    .concat(" solicitudes de la bandeja de salida porque el publicador no acepto mas mensajes"));
+        }
+        return confirmadas.size();
+    }
+
+    private Resultado esperarConfirmacion(CompletableFuture<Boolean> publicacion, long limite) {
+        try {
+            return publicacion.get(Math.max(0, limite - System.currentTimeMillis()), TimeUnit.MILLISECONDS) ? Resultado.CONFIRMADO : Resultado.FALLIDO;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Resultado.FALLIDO;
+        } catch (ExecutionException e) {
+            return e.getCause() instanceof RejectedExecutionException ? Resultado.RECHAZADO : Resultado.FALLIDO;
+        } catch (Exception e) {
+            return Resultado.FALLIDO;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${edu.kalum.core.configuration.enrollment.outbox.purge-interval-ms:600000}")
+    public void purge() {
+        try {
+            int eliminadas = enrollmentOutboxService.purge();
+            if (eliminadas > 0) {
+                logger.info("Se eliminaron ".concat(String.valueOf(eliminadas)).concat(" solicitudes publicadas de la bandeja de salida"));
+            }
+        } catch (CannotCreateTransactionException e) {
+            logger.error("Error, no se pudo acceder a la base de datos para depurar la bandeja de salida");
+        } catch (DataAccessException e) {
+            logger.error("Error al depurar la bandeja de salida de inscripciones, ".concat(String.valueOf(e.getMessage())));
+        }
+    }
+}
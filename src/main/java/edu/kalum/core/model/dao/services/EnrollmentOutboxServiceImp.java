@@ -0,0 +1,135 @@
+package edu.kalum.core.model.dao.services;
+
+import com.google.gson.Gson;
+import edu.kalum.core.model.dao.IEnrollmentOutboxDao;
+import edu.kalum.core.model.dtos.EnrollmentOutboxDTO;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import edu.kalum.core.model.entities.EnrollmentOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class EnrollmentOutboxServiceImp implements IEnrollmentOutboxService {
+
+    private Logger logger = LoggerFactory.getLogger(EnrollmentOutboxServiceImp.class);
+
+    private static final Gson GSON = new Gson();
+
+    @Autowired
+    private IEnrollmentOutboxDao enrollmentOutboxDao;
+
+    @Autowired
+    private IAspiranteService aspiranteService;
+
+    @Autowired
+    private ICarreraTecnicaService carreraTecnicaService;
+
+    @Autowired
+    private IEnrollmentPublisherService enrollmentPublisherService;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.batch-size:256}")
+    private Integer batchSize;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.lease-ms:30000}")
+    private Long lease;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.retry-backoff-ms:1000}")
+    private Long retryBackoff;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.max-backoff-ms:60000}")
+    private Long maxBackoff;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.max-attempts:20}")
+    private Integer maxAttempts;
+
+    @Value("${edu.kalum.core.configuration.enrollment.outbox.retention-ms:86400000}")
+    private Long retention;
+
+    @Override
+    @Transactional
+    public EnrollmentOutboxDTO enqueue(EnrollmentRequestDTO request) {
+        if (aspiranteService.findExistingIds(Collections.singleton(request.getNoExpediente())).isEmpty()) {
+            return new EnrollmentOutboxDTO(null, HttpStatus.NOT_FOUND.value(), "El aspirante con el expediente: ".concat(request.getNoExpediente()).concat(" no existe"));
+        }
+        if (carreraTecnicaService.findDTOById(request.getCarreraId()) == null) {
+            return new EnrollmentOutboxDTO(null, HttpStatus.NO_CONTENT.value(), "La carrera tecnica con el id: ".concat(request.getCarreraId()).concat(" no existe"));
+        }
+        return enqueueAll(Collections.singletonList(request)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<EnrollmentOutboxDTO> enqueueAll(List<EnrollmentRequestDTO> requests) {
+        long ahora = System.currentTimeMillis();
+        List<EnrollmentOutbox> pendientes = new ArrayList<>(requests.size());
+        List<EnrollmentOutboxDTO> resultados = new ArrayList<>(requests.size());
+        for (EnrollmentRequestDTO request : requests) {
+            String id = UUID.randomUUID().toString();
+            pendientes.add(new EnrollmentOutbox(id, GSON.toJson(request), ahora, 0, ahora, EnrollmentOutbox.PENDIENTE, ahora));
+            resultados.add(new EnrollmentOutboxDTO(id, HttpStatus.ACCEPTED.value(), "la solicitud de inscripcion esta en proceso"));
+        }
+        enrollmentOutboxDao.saveAll(pendientes);
+        return resultados;
+    }
+
+    @Override
+    @Transactional
+    public List<EnrollmentOutbox> claim() {
+        long ahora = System.currentTimeMillis();
+        List<EnrollmentOutbox> pendientes = enrollmentOutboxDao.findPendientes(ahora, PageRequest.of(0, batchSize));
+        for (EnrollmentOutbox pendiente : pendientes) {
+            pendiente.setSiguienteIntento(ahora + lease);
+            pendiente.setActualizado(ahora);
+        }
+        return pendientes;
+    }
+
+    @Override
+    @Transactional
+    public void complete(List<String> confirmadas, List<String> fallidas, List<String> rechazadas) {
+        long ahora = System.currentTimeMillis();
+        if (!confirmadas.isEmpty()) {
+            enrollmentOutboxDao.updateEstado(confirmadas, EnrollmentOutbox.PUBLICADO, ahora);
+        }
+        if (!rechazadas.isEmpty()) {
+            enrollmentOutboxDao.updateSiguienteIntento(rechazadas, ahora + retryBackoff, ahora);
+        }
+        if (fallidas.isEmpty()) {
+            return;
+        }
+        for (EnrollmentOutbox pendiente : enrollmentOutboxDao.findAllById(fallidas)) {
+            if (!EnrollmentOutbox.PENDIENTE.equals(pendiente.getEstado())) {
+                continue;
+            }
+            String noExpediente = GSON.fromJson(pendiente.getPayload(), EnrollmentRequestDTO.class).getNoExpediente();
+            pendiente.setIntentos(pendiente.getIntentos() + 1);
+            pendiente.setActualizado(ahora);
+            if (pendiente.getIntentos() >= maxAttempts) {
+                pendiente.setEstado(EnrollmentOutbox.DESCARTADO);
+                logger.error("Se descarto la solicitud de inscripcion ".concat(pendiente.getOutboxId()).concat(" con el expediente ")
+                        .concat(noExpediente).concat(" despues de ").concat(String.valueOf(pendiente.getIntentos())).concat(" intentos"));
+            } else {
+                pendiente.setSiguienteIntento(ahora + Math.min(maxBackoff, retryBackoff << Math.min(pendiente.getIntentos() - 1, 16)));
+                logger.warn("No se confirmo la solicitud de inscripcion con el expediente ".concat(noExpediente)
+                        .concat(", intento ").concat(String.valueOf(pendiente.getIntentos())));
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int purge() {
+        return enrollmentOutboxDao.deletePublicados(System.currentTimeMillis() - retention);
+    }
+}
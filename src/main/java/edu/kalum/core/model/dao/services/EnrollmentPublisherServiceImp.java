@@ -0,0 +1,234 @@
+package edu.kalum.core.model.dao.services;
+
+import com.google.gson.Gson;
+import edu.kalum.core.utils.CircuitBreaker;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class EnrollmentPublisherServiceImp implements IEnrollmentPublisherService {
+
+    private Logger logger = LoggerFactory.getLogger(EnrollmentPublisherServiceImp.class);
+
+    private static final Gson GSON = new Gson();
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("brokerCircuitBreaker")
+    private CircuitBreaker brokerCircuitBreaker;
+
+    @Value("${edu.kalum.core.configuration.enrollment.exchange:}")
+    private String exchange;
+
+    @Value("${edu.kalum.core.configuration.enrollment.routing-key:${edu.kalum.core.configuration.enrollment.queue:kalum.queue.enrollment}}")
+    private String routingKey;
+
+    @Value("${edu.kalum.core.configuration.enrollment.max-in-flight:512}")
+    private Integer maxInFlight;
+
+    @Value("${edu.kalum.core.configuration.enrollment.permit-wait-ms:1000}")
+    private Long permitWait;
+
+    @Value("${edu.kalum.core.configuration.enrollment.confirm-timeout-ms:5000}")
+    private Long confirmTimeout;
+
+    @Value("${edu.kalum.core.configuration.enrollment.publisher-threads:4}")
+    private Integer publisherThreads;
+
+    private Semaphore inFlight;
+
+    private ExecutorService envios;
+
+    private ScheduledExecutorService temporizador;
+
+    private Timer publishConfirmado;
+
+    private Timer publishRechazado;
+
+    private Timer publishError;
+
+    private Timer publishTimeout;
+
+    private Counter fallosRechazado;
+
+    private Counter fallosError;
+
+    private Counter fallosTimeout;
+
+    private Counter fallosLimite;
+
+    private Counter fallosCircuito;
+
+    @PostConstruct
+    public void init() {
+        inFlight = new Semaphore(maxInFlight);
+        envios = Executors.newFixedThreadPool(publisherThreads, new CustomizableThreadFactory("enrollment-publisher-"));
+        temporizador = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("enrollment-confirm-timeout-"));
+        publishConfirmado = publishTimer("confirmado");
+        publishRechazado = publishTimer("rechazado");
+        publishError = publishTimer("error");
+        publishTimeout = publishTimer("timeout");
+        fallosRechazado = meterRegistry.counter("kalum.enrollment.publish.failures", "motivo", "rechazado");
+        fallosError = meterRegistry.counter("kalum.enrollment.publish.failures", "motivo", "error");
+        fallosTimeout = meterRegistry.counter("kalum.enrollment.publish.failures", "motivo", "timeout");
+        fallosLimite = meterRegistry.counter("kalum.enrollment.publish.failures", "motivo", "limite");
+        fallosCircuito = meterRegistry.counter("kalum.enrollment.publish.failures", "motivo", "circuito");
+        Gauge.builder("kalum.enrollment.publish.in-flight", inFlight, s -> maxInFlight - s.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        envios.shutdown();
+        temporizador.shutdownNow();
+    }
+
+    private Timer publishTimer(String resultado) {
+        return Timer.builder("kalum.enrollment.publish")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean publish(EnrollmentRequestDTO request) {
+        try {
+            return publishAsync(request).get(confirmTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (Exception e) {
+            logger.error("No se recibio la confirmacion del broker, ".concat(String.valueOf(e.getMessage())));
+            return false;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> publishAsync(EnrollmentRequestDTO request) {
+        CompletableFuture<Boolean> resultado = new CompletableFuture<>();
+        if (!brokerCircuitBreaker.tryAcquire()) {
+            fallosCircuito.increment();
+            resultado.completeExceptionally(new RejectedExecutionException("El circuito del broker esta abierto"));
+            return resultado;
+        }
+        if (!adquirir()) {
+            brokerCircuitBreaker.onIgnored();
+            logger.warn("Se alcanzo el limite de mensajes pendientes de confirmacion");
+            fallosLimite.increment();
+            resultado.completeExceptionally(new RejectedExecutionException("Se alcanzo el limite de mensajes pendientes de confirmacion"));
+            return resultado;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CorrelationData correlationData = new CorrelationData(UUID.randomUUID().toString());
+        ScheduledFuture<?> timeout = temporizador.schedule(() -> {
+            if (completar(resultado, false)) {
+                brokerCircuitBreaker.onFailure();
+                sample.stop(publishTimeout);
+                fallosTimeout.increment();
+                logger.error("No se recibio la confirmacion del broker en ".concat(String.valueOf(confirmTimeout)).concat(" ms"));
+            }
+        }, confirmTimeout, TimeUnit.MILLISECONDS);
+        correlationData.getFuture().addCallback(confirm -> {
+            timeout.cancel(false);
+            if (!completar(resultado, confirm.isAck())) {
+                return;
+            }
+            if (confirm.isAck()) {
+                brokerCircuitBreaker.onSuccess();
+                sample.stop(publishConfirmado);
+            } else if (confirm.getReason() == null) {
+                brokerCircuitBreaker.onSuccess();
+                sample.stop(publishRechazado);
+                fallosRechazado.increment();
+                logger.error("El broker rechazo la solicitud de inscripcion");
+            } else {
+                brokerCircuitBreaker.onFailure();
+                sample.stop(publishError);
+                fallosError.increment();
+                logger.error("Se cerro el canal antes de la confirmacion del broker, ".concat(confirm.getReason()));
+            }
+        }, error -> {
+            timeout.cancel(false);
+            if (completar(resultado, false)) {
+                brokerCircuitBreaker.onFailure();
+                sample.stop(publishError);
+                fallosError.increment();
+            }
+        });
+        try {
+            envios.execute(() -> enviar(request, correlationData));
+        } catch (RejectedExecutionException e) {
+            correlationData.getFuture().setException(e);
+        }
+        return resultado;
+    }
+
+    private boolean adquirir() {
+        try {
+            return inFlight.tryAcquire(permitWait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void enviar(EnrollmentRequestDTO request, CorrelationData correlationData) {
+        try {
+            rabbitTemplate.send(exchange, routingKey, toMessage(request), correlationData);
+        } catch (Exception e) {
+            logger.error("Error al escribir a la cola, ".concat(String.valueOf(e.getMessage())));
+            correlationData.getFuture().setException(e);
+        }
+    }
+
+    private boolean completar(CompletableFuture<Boolean> resultado, boolean confirmado) {
+        if (!resultado.complete(confirmado)) {
+            return false;
+        }
+        inFlight.release();
+        return true;
+    }
+
+    private Message toMessage(EnrollmentRequestDTO request) {
+        return MessageBuilder.withBody(GSON.toJson(request).getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setTimestamp(new Date())
+                .build();
+    }
+}
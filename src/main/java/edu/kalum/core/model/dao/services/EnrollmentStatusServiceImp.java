@@ -0,0 +1,69 @@
+package edu.kalum.core.model.dao.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.kalum.core.model.dao.IEnrollmentOutboxDao;
+import edu.kalum.core.model.dtos.EnrollmentResponseDTO;
+import edu.kalum.core.model.entities.EnrollmentOutbox;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class EnrollmentStatusServiceImp implements IEnrollmentStatusService {
+
+    private static final EnrollmentResponseDTO EN_PROCESO = new EnrollmentResponseDTO(HttpStatus.ACCEPTED.value(), "la solicitud de inscripcion esta en proceso");
+
+    private static final EnrollmentResponseDTO PUBLICADA = new EnrollmentResponseDTO(HttpStatus.OK.value(), "la solicitud de inscripcion fue generada con exito");
+
+    private static final EnrollmentResponseDTO DESCARTADA = new EnrollmentResponseDTO(HttpStatus.SERVICE_UNAVAILABLE.value(), "no se pudo publicar la solicitud de inscripcion, se agotaron los intentos");
+
+    @Autowired
+    private IEnrollmentOutboxDao enrollmentOutboxDao;
+
+    @Value("${edu.kalum.core.configuration.enrollment.status.ttl-ms:900000}")
+    private Long ttl;
+
+    @Value("${edu.kalum.core.configuration.enrollment.status.max-entries:200000}")
+    private Integer maxEntries;
+
+    private Cache<String, EnrollmentResponseDTO> terminadas;
+
+    @PostConstruct
+    public void init() {
+        terminadas = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public EnrollmentResponseDTO findById(String id) {
+        EnrollmentResponseDTO status = terminadas.getIfPresent(id);
+        if (status != null) {
+            return status;
+        }
+        EnrollmentOutbox outbox = enrollmentOutboxDao.findById(id).orElse(null);
+        if (outbox == null) {
+            return null;
+        }
+        switch (outbox.getEstado()) {
+            case EnrollmentOutbox.PUBLICADO:
+                status = PUBLICADA;
+                break;
+            case EnrollmentOutbox.DESCARTADO:
+                status = DESCARTADA;
+                break;
+            default:
+                return EN_PROCESO;
+        }
+        terminadas.put(id, status);
+        return status;
+    }
+}
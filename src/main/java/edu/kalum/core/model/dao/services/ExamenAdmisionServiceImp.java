@@ -1,9 +1,11 @@
 package edu.kalum.core.model.dao.services;
 
 import edu.kalum.core.model.dao.IExamenAdmisionDao;
+import edu.kalum.core.model.dtos.ExamenAdmisionDTO;
 import edu.kalum.core.model.entities.ExamenAdmision;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +27,16 @@ public class ExamenAdmisionServiceImp implements IExamenAdmisionService{
         return examenAdmisionDao.findById(examenId).orElse(null);
     }
 
+    @Override
+    public List<ExamenAdmisionDTO> findAllDTO() {
+        return examenAdmisionDao.findAllDTO();
+    }
+
+    @Override
+    public ExamenAdmisionDTO findDTOById(String examenId) {
+        return examenAdmisionDao.findDTOById(examenId);
+    }
+
     @Override
     public ExamenAdmision save(ExamenAdmision examenAdmision) {
         return examenAdmisionDao.save(examenAdmision);
@@ -40,5 +52,8 @@ public class ExamenAdmisionServiceImp implements IExamenAdmisionService{
         return examenAdmisionDao.findAll(pageable);
     }
 
-
+    @Override
+    public List<ExamenAdmision> findAfter(String after, int size) {
+        return examenAdmisionDao.findByExamenIdGreaterThanOrderByExamenIdAsc(after, PageRequest.of(0, size));
+    }
 }
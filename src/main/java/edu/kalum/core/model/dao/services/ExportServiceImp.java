@@ -0,0 +1,86 @@
+package edu.kalum.core.model.dao.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ExportServiceImp implements IExportService {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${edu.kalum.core.configuration.export.fetch-size:-2147483648}")
+    private Integer fetchSize;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAlumnos(String ciclo, String carreraId, String after, ResultSetExtractor<Long> destino) {
+        StringBuilder sql = new StringBuilder("select a.CARNE as carne, a.APELLIDOS as apellidos, a.NOMBRES as nombres, "
+                + "a.DIRECCION as direccion, a.TELEFONO as telefono, a.EMAIL as email from ALUMNO a where a.CARNE > ?");
+        List<Object> parametros = new ArrayList<>();
+        parametros.add(after == null ? "" : after);
+        if (ciclo != null) {
+            sql.append(" and exists (select 1 from INSCIPCION i where i.CARNE = a.CARNE and i.CICLO = ?)");
+            parametros.add(ciclo);
+        }
+        if (carreraId != null) {
+            sql.append(" and exists (select 1 from INSCIPCION i join CARRERA_TECNICA c on c.INSCRIPCION_ID = i.INSCRIPCION_ID "
+                    + "where i.CARNE = a.CARNE and c.CARRERA_ID = ?)");
+            parametros.add(carreraId);
+        }
+        sql.append(" order by a.CARNE");
+        jdbcTemplate.query(sql.toString(), destino, parametros.toArray());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAspirantes(String carreraId, String after, ResultSetExtractor<Long> destino) {
+        StringBuilder sql = new StringBuilder("select a.NO_EXPEDIENTE as noExpediente, a.APELLIDOS as apellidos, a.NOMBRES as nombres, "
+                + "a.DIRECCION as direccion, a.TELEFONO as telefono, a.EMAIL as email, a.ESTATUS as estatus, "
+                + "a.EXAMEN_ID as examenId, a.JORNADA as jornadaId, a.CARRERA_ID as carreraId from ASPIRANTE a where a.NO_EXPEDIENTE > ?");
+        List<Object> parametros = new ArrayList<>();
+        parametros.add(after == null ? "" : after);
+        if (carreraId != null) {
+            sql.append(" and a.CARRERA_ID = ?");
+            parametros.add(carreraId);
+        }
+        sql.append(" order by a.NO_EXPEDIENTE");
+        jdbcTemplate.query(sql.toString(), destino, parametros.toArray());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInscripciones(String ciclo, String carreraId, String after, ResultSetExtractor<Long> destino) {
+        StringBuilder sql = new StringBuilder("select i.INSCRIPCION_ID as inscripcionId, i.CARNE as carne, i.JORNADA_ID as jornadaId, "
+                + "i.CICLO as ciclo, i.FECHA_INSCRIPCION as fechaInscripcion from INSCIPCION i where i.INSCRIPCION_ID > ?");
+        List<Object> parametros = new ArrayList<>();
+        parametros.add(after == null ? "" : after);
+        if (ciclo != null) {
+            sql.append(" and i.CICLO = ?");
+            parametros.add(ciclo);
+        }
+        if (carreraId != null) {
+            sql.append(" and exists (select 1 from CARRERA_TECNICA c where c.INSCRIPCION_ID = i.INSCRIPCION_ID and c.CARRERA_ID = ?)");
+            parametros.add(carreraId);
+        }
+        sql.append(" order by i.INSCRIPCION_ID");
+        jdbcTemplate.query(sql.toString(), destino, parametros.toArray());
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IAlumnoService {
 
@@ -13,4 +14,6 @@ public interface IAlumnoService {
     public Alumno save(Alumno alumno);
     public void delete(Alumno alumno);
     public Page<Alumno> findAll(Pageable pageable);
+    public List<Alumno> findAfter(String after, int size);
+    public void streamAll(Consumer<Alumno> consumer);
 }
@@ -0,0 +1,10 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.AspiranteFacetPageDTO;
+
+import java.util.List;
+
+public interface IAspiranteFacetService {
+    public AspiranteFacetPageDTO filter(List<String> carreras, List<String> jornadas, List<String> examenes,
+                                        List<String> estatus, int page, int size);
+}
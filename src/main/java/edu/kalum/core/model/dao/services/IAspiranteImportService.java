@@ -0,0 +1,11 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.AspiranteImportDTO;
+import edu.kalum.core.model.dtos.AspiranteImportResponseDTO;
+
+import java.util.List;
+import java.util.Set;
+
+public interface IAspiranteImportService {
+    public List<AspiranteImportResponseDTO> process(List<AspiranteImportDTO> lote, Set<String> vistos);
+}
@@ -1,11 +1,18 @@
 package edu.kalum.core.model.dao.services;
 
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.model.dtos.AspiranteDTO;
 import edu.kalum.core.model.entities.Aspirante;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 
 public interface IAspiranteService {
@@ -14,4 +21,16 @@ public interface IAspiranteService {
     public Aspirante save(Aspirante aspirante);
     public void delete(Aspirante aspirante);
     public Page<Aspirante> findAll(Pageable pageable);
+    public List<String> findExistingIds(Collection<String> noExpedientes);
+    public Map<String, String> findJornadaIds(Collection<String> noExpedientes);
+    public AspiranteDTO findDTOById(String aspiranteId);
+    public Page<AspiranteDTO> findAllDTO(Pageable pageable);
+    public List<AspiranteDTO> findAllDTO(Specification<Aspirante> specification, Pageable pageable);
+    @Cacheable(value = CacheConfig.ASPIRANTE_FACETAS, key = "'cubo'")
+    public List<Object[]> findFacetCounts();
+    public List<AspiranteDTO> findAfter(String after, int size);
+    public List<AspiranteDTO> findByCarreraAfter(String carreraId, String after, int size);
+    public List<AspiranteDTO> findByExamenAfter(String examenId, String after, int size);
+    public List<AspiranteDTO> findByJornadaAfter(String jornadaId, String after, int size);
+    public void streamAll(Consumer<AspiranteDTO> consumer);
 }
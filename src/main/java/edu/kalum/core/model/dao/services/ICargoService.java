@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ICargoService {
     public List<Cargo> findAll();
@@ -12,4 +13,6 @@ public interface ICargoService {
     public Cargo save(Cargo cargo);
     public void delete(Cargo cargo);
     public Page findAll(Pageable pageable);
+    public List<Cargo> findAfter(String after, int size);
+    public void streamAll(Consumer<Cargo> consumer);
 }
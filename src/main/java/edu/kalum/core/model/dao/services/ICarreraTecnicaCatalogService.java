@@ -0,0 +1,12 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.utils.RenderedResponse;
+import org.springframework.cache.annotation.Cacheable;
+
+public interface ICarreraTecnicaCatalogService {
+    @Cacheable(value = CacheConfig.CATALOGO_CARRERAS, key = "'page:' + #p0 + ':' + #p1", sync = true)
+    public RenderedResponse renderPage(int page, int size);
+    @Cacheable(value = CacheConfig.CATALOGO_CARRERAS, key = "'after:' + #p0 + ':' + #p1", sync = true)
+    public RenderedResponse renderAfter(String after, int size);
+}
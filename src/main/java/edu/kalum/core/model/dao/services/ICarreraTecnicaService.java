@@ -1,17 +1,33 @@
 package edu.kalum.core.model.dao.services;
 
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.model.dtos.CarreraTecnicaDTO;
 import edu.kalum.core.model.entities.CarreraTecnica;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 
+import java.util.Collection;
 import java.util.List;
 
 
 public interface ICarreraTecnicaService {
     public List<CarreraTecnica> findAll();
     public Page<CarreraTecnica> findAll(Pageable pageable);
+    public Page<CarreraTecnicaDTO> findAllDTO(Pageable pageable);
     public CarreraTecnica findById(String carreraId);
+    public List<CarreraTecnicaDTO> findAllDTO();
+    @Cacheable(value = CacheConfig.CARRERAS_TECNICAS, unless = "#result == null")
+    public CarreraTecnicaDTO findDTOById(String carreraId);
+    @Caching(evict = {@CacheEvict(value = CacheConfig.CARRERAS_TECNICAS, key = "#p0.carreraId"),
+            @CacheEvict(value = CacheConfig.CATALOGO_CARRERAS, allEntries = true)})
     public CarreraTecnica save(CarreraTecnica carreraTecnica);
+    @Caching(evict = {@CacheEvict(value = CacheConfig.CARRERAS_TECNICAS, key = "#p0.carreraId"),
+            @CacheEvict(value = CacheConfig.CATALOGO_CARRERAS, allEntries = true)})
     public void delete(CarreraTecnica carreraTecnica);
+    public List<String> findExistingIds(Collection<String> carreraIds);
+    public List<CarreraTecnicaDTO> findAfter(String after, int size);
 }
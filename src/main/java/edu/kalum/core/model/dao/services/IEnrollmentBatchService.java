@@ -0,0 +1,10 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentOutboxDTO;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+
+import java.util.List;
+
+public interface IEnrollmentBatchService {
+    public List<EnrollmentOutboxDTO> process(List<EnrollmentRequestDTO> requests);
+}
@@ -0,0 +1,9 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+
+import java.util.List;
+
+public interface IEnrollmentConsumerService {
+    public int process(List<EnrollmentRequestDTO> requests);
+}
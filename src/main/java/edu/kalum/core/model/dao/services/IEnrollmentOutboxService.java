@@ -0,0 +1,15 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentOutboxDTO;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import edu.kalum.core.model.entities.EnrollmentOutbox;
+
+import java.util.List;
+
+public interface IEnrollmentOutboxService {
+    public EnrollmentOutboxDTO enqueue(EnrollmentRequestDTO request);
+    public List<EnrollmentOutboxDTO> enqueueAll(List<EnrollmentRequestDTO> requests);
+    public List<EnrollmentOutbox> claim();
+    public void complete(List<String> confirmadas, List<String> fallidas, List<String> rechazadas);
+    public int purge();
+}
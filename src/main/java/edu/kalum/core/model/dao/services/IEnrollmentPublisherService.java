@@ -0,0 +1,10 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface IEnrollmentPublisherService {
+    public boolean publish(EnrollmentRequestDTO request);
+    public CompletableFuture<Boolean> publishAsync(EnrollmentRequestDTO request);
+}
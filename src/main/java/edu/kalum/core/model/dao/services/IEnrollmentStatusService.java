@@ -0,0 +1,7 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.EnrollmentResponseDTO;
+
+public interface IEnrollmentStatusService {
+    public EnrollmentResponseDTO findById(String id);
+}
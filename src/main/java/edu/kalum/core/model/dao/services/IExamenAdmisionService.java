@@ -1,6 +1,10 @@
 package edu.kalum.core.model.dao.services;
 
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.model.dtos.ExamenAdmisionDTO;
 import edu.kalum.core.model.entities.ExamenAdmision;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,7 +16,13 @@ public interface IExamenAdmisionService {
 
     public List<ExamenAdmision> findAll();
     public ExamenAdmision findById(String examenId);
+    public List<ExamenAdmisionDTO> findAllDTO();
+    @Cacheable(value = CacheConfig.EXAMENES_ADMISION, unless = "#result == null")
+    public ExamenAdmisionDTO findDTOById(String examenId);
+    @CacheEvict(value = CacheConfig.EXAMENES_ADMISION, key = "#p0.examenId")
     public ExamenAdmision save(ExamenAdmision examenAdmision);
+    @CacheEvict(value = CacheConfig.EXAMENES_ADMISION, key = "#p0.examenId")
     public void delete(ExamenAdmision examenAdmision);
     public Page<ExamenAdmision> findAll(Pageable pageable);
+    public List<ExamenAdmision> findAfter(String after, int size);
 }
@@ -0,0 +1,9 @@
+package edu.kalum.core.model.dao.services;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+public interface IExportService {
+    public void exportAlumnos(String ciclo, String carreraId, String after, ResultSetExtractor<Long> destino);
+    public void exportAspirantes(String carreraId, String after, ResultSetExtractor<Long> destino);
+    public void exportInscripciones(String ciclo, String carreraId, String after, ResultSetExtractor<Long> destino);
+}
@@ -5,9 +5,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IInscripcionService {
     public List<Inscripcion> findAll();
     public Inscripcion findById(String inscripcionId);
     public Page<Inscripcion> findAll(Pageable pageable);
+    public void saveAll(List<Inscripcion> inscripciones);
+    public List<Inscripcion> findAfter(String after, int size);
+    public void streamAll(Consumer<Inscripcion> consumer);
 }
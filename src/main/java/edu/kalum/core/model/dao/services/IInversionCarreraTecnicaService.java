@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IInversionCarreraTecnicaService {
     public List<InversionCarreraTecnica> findAll();
@@ -13,4 +14,6 @@ public interface IInversionCarreraTecnicaService {
     public InversionCarreraTecnica findById(String inversionId);
     public InversionCarreraTecnica save(InversionCarreraTecnica inversionCarreraTecnica);
     public void delete(InversionCarreraTecnica inversionCarreraTecnica);
+    public List<InversionCarreraTecnica> findAfter(String after, int size);
+    public void streamAll(Consumer<InversionCarreraTecnica> consumer);
 }
@@ -1,6 +1,9 @@
 package edu.kalum.core.model.dao.services;
 
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.model.dtos.JornadaDTO;
 import edu.kalum.core.model.entities.Jornada;
+import org.springframework.cache.annotation.Cacheable;
 
 import java.util.List;
 
@@ -8,4 +11,7 @@ public interface IJornadaService {
 
     public List<Jornada> findAll();
     public Jornada findById(String jornadaId);
+    public List<JornadaDTO> findAllDTO();
+    @Cacheable(value = CacheConfig.JORNADAS, unless = "#result == null")
+    public JornadaDTO findDTOById(String jornadaId);
 }
@@ -0,0 +1,15 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.SearchResultDTO;
+
+import java.util.List;
+
+public interface ISearchService {
+    public void rebuild();
+    public void indexAspirante(String noExpediente, String nombres, String apellidos, String email, String telefono);
+    public void removeAspirante(String noExpediente);
+    public List<SearchResultDTO> searchAspirantes(String query, int size);
+    public void indexAlumno(String carne, String nombres, String apellidos, String email, String telefono);
+    public void removeAlumno(String carne);
+    public List<SearchResultDTO> searchAlumnos(String query, int size);
+}
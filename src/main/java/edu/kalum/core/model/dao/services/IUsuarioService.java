@@ -0,0 +1,16 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.configuration.CacheConfig;
+import edu.kalum.core.model.entities.Usuario;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+
+public interface IUsuarioService {
+    @Cacheable(value = CacheConfig.USUARIOS, unless = "#result == null")
+    public Usuario findByUsername(String username);
+    public Usuario findByEmail(String email);
+    @CacheEvict(value = CacheConfig.USUARIOS, allEntries = true)
+    public Usuario save(Usuario usuario);
+    @CacheEvict(value = CacheConfig.USUARIOS, allEntries = true)
+    public void delete(Usuario usuario);
+}
@@ -3,11 +3,18 @@ package edu.kalum.core.model.dao.services;
 import edu.kalum.core.model.dao.IInscripcionDao;
 import edu.kalum.core.model.entities.Inscripcion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class InscripcionServiceImp implements IInscripcionService {
@@ -15,7 +22,17 @@ public class InscripcionServiceImp implements IInscripcionService {
     @Autowired
     private IInscripcionDao inscripcionDao;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edu.kalum.core.configuration.stream.chunk-size:500}")
+    private Integer chunkSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Override
+    @Transactional(readOnly = true)
     public List<Inscripcion> findAll() {
         return inscripcionDao.findAll();
     }
@@ -26,7 +43,34 @@ public class InscripcionServiceImp implements IInscripcionService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Inscripcion> findAll(Pageable pageable) {
         return inscripcionDao.findAll(pageable);
     }
+
+    @Override
+    @Transactional
+    public void saveAll(List<Inscripcion> inscripciones) {
+        jdbcTemplate.batchUpdate(
+                "insert into INSCIPCION (INSCRIPCION_ID, CARNE, JORNADA_ID, CICLO, FECHA_INSCRIPCION) values (?, ?, ?, ?, ?)",
+                inscripciones, inscripciones.size(), (ps, inscripcion) -> {
+                    ps.setString(1, inscripcion.getInscripcionId());
+                    ps.setString(2, inscripcion.getCarne());
+                    ps.setString(3, inscripcion.getJornadaId());
+                    ps.setString(4, inscripcion.getCiclo());
+                    ps.setString(5, inscripcion.getFechaInscripcion());
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Inscripcion> findAfter(String after, int size) {
+        return inscripcionDao.findByInscripcionIdGreaterThanOrderByInscripcionIdAsc(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Inscripcion> consumer) {
+        KeysetStream.forEach(this::findAfter, Inscripcion::getInscripcionId, chunkSize, entityManager, consumer);
+    }
 }
@@ -3,11 +3,17 @@ package edu.kalum.core.model.dao.services;
 import edu.kalum.core.model.dao.IInversionCarreraTecnicaDao;
 import edu.kalum.core.model.entities.InversionCarreraTecnica;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class InversionCarreraTecnicaServiceImp implements IInversionCarreraTecnicaService{
@@ -15,6 +21,12 @@ public class InversionCarreraTecnicaServiceImp implements IInversionCarreraTecni
     @Autowired
     private IInversionCarreraTecnicaDao iInversionCarreraTecnicaDao;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edu.kalum.core.configuration.stream.chunk-size:500}")
+    private Integer chunkSize;
+
     @Override
     public List<InversionCarreraTecnica> findAll() {
         return iInversionCarreraTecnicaDao.findAll();
@@ -39,4 +51,15 @@ public class InversionCarreraTecnicaServiceImp implements IInversionCarreraTecni
     public void delete(InversionCarreraTecnica inversionCarreraTecnica) {
         iInversionCarreraTecnicaDao.delete(inversionCarreraTecnica);
     }
+
+    @Override
+    public List<InversionCarreraTecnica> findAfter(String after, int size) {
+        return iInversionCarreraTecnicaDao.findByInversionIdGreaterThanOrderByInversionIdAsc(after, PageRequest.of(0, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<InversionCarreraTecnica> consumer) {
+        KeysetStream.forEach(this::findAfter, InversionCarreraTecnica::getInversionId, chunkSize, entityManager, consumer);
+    }
 }
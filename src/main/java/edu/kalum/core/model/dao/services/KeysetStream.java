@@ -0,0 +1,27 @@
+package edu.kalum.core.model.dao.services;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+final class KeysetStream {
+
+    private KeysetStream() {
+    }
+
+    static <T> void forEach(BiFunction<String, Integer, List<T>> page, Function<T, String> key, int chunkSize,
+                            EntityManager entityManager, Consumer<T> consumer) {
+        String after = "";
+        List<T> rows;
+        do {
+            rows = page.apply(after, chunkSize);
+            rows.forEach(consumer);
+            if (!rows.isEmpty()) {
+                after = key.apply(rows.get(rows.size() - 1));
+            }
+            entityManager.clear();
+        } while (rows.size() == chunkSize);
+    }
+}
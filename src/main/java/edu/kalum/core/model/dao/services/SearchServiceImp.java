@@ -0,0 +1,149 @@
+package edu.kalum.core.model.dao.services;
+
+import edu.kalum.core.model.dtos.SearchResultDTO;
+import edu.kalum.core.utils.SearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+public class SearchServiceImp implements ISearchService {
+
+    private Logger logger = LoggerFactory.getLogger(SearchServiceImp.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${edu.kalum.core.configuration.search.rebuild-chunk-size:5000}")
+    private Integer chunkSize;
+
+    @Value("${edu.kalum.core.configuration.search.min-term-length:3}")
+    private Integer minTermLength;
+
+    @Value("${edu.kalum.core.configuration.search.max-candidates:5000}")
+    private Integer maxCandidates;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private Indice aspirantes;
+
+    private Indice alumnos;
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        aspirantes = new Indice();
+        alumnos = new Indice();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            int totalAspirantes = aspirantes.reconstruir(indice -> cargar(indice, "select NO_EXPEDIENTE, NOMBRES, APELLIDOS, EMAIL, TELEFONO from ASPIRANTE "
+                    + "where NO_EXPEDIENTE > ? order by NO_EXPEDIENTE limit ?"));
+            int totalAlumnos = alumnos.reconstruir(indice -> cargar(indice, "select CARNE, NOMBRES, APELLIDOS, EMAIL, TELEFONO from ALUMNO "
+                    + "where CARNE > ? order by CARNE limit ?"));
+            logger.info("Se construyo el indice de busqueda con " + totalAspirantes + " aspirantes y " + totalAlumnos + " alumnos");
+        } catch (DataAccessException e) {
+            logger.warn("No se pudo construir el indice de busqueda, ".concat(String.valueOf(e.getMostSpecificCause().getMessage())));
+        }
+    }
+
+    private void cargar(SearchIndex indice, String sql) {
+        String after = "";
+        List<String> ids;
+        do {
+            ids = new ArrayList<>(chunkSize);
+            List<String> leidos = ids;
+            jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+                leidos.add(resultSet.getString(1));
+                indice.put(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4), resultSet.getString(5));
+            }, after, chunkSize);
+            if (!ids.isEmpty()) {
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == chunkSize);
+    }
+
+    @Override
+    public void indexAspirante(String noExpediente, String nombres, String apellidos, String email, String telefono) {
+        aspirantes.aplicar(indice -> indice.put(noExpediente, nombres, apellidos, email, telefono));
+    }
+
+    @Override
+    public void removeAspirante(String noExpediente) {
+        aspirantes.aplicar(indice -> indice.remove(noExpediente));
+    }
+
+    @Override
+    public List<SearchResultDTO> searchAspirantes(String query, int size) {
+        return aspirantes.actual.search(query, size);
+    }
+
+    @Override
+    public void indexAlumno(String carne, String nombres, String apellidos, String email, String telefono) {
+        alumnos.aplicar(indice -> indice.put(carne, nombres, apellidos, email, telefono));
+    }
+
+    @Override
+    public void removeAlumno(String carne) {
+        alumnos.aplicar(indice -> indice.remove(carne));
+    }
+
+    @Override
+    public List<SearchResultDTO> searchAlumnos(String query, int size) {
+        return alumnos.actual.search(query, size);
+    }
+
+    private final class Indice {
+        private volatile SearchIndex actual = nuevo();
+        private List<Consumer<SearchIndex>> pendientes;
+
+        private SearchIndex nuevo() {
+            return new SearchIndex(minTermLength, maxCandidates);
+        }
+
+        private synchronized void aplicar(Consumer<SearchIndex> operacion) {
+            operacion.accept(actual);
+            if (pendientes != null) {
+                pendientes.add(operacion);
+            }
+        }
+
+        private int reconstruir(Consumer<SearchIndex> carga) {
+            synchronized (this) {
+                if (pendientes != null) {
+                    return actual.size();
+                }
+                pendientes = new ArrayList<>();
+            }
+            SearchIndex fresco = nuevo();
+            try {
+                carga.accept(fresco);
+                synchronized (this) {
+                    pendientes.forEach(operacion -> operacion.accept(fresco));
+                    actual = fresco;
+                }
+                return fresco.size();
+            } finally {
+                synchronized (this) {
+                    pendientes = null;
+                }
+            }
+        }
+    }
+}
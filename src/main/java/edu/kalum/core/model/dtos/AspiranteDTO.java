@@ -0,0 +1,62 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+public class AspiranteDTO implements Serializable {
+    private String noExpediente;
+    private String apellidos;
+    private String nombres;
+    private String direccion;
+    private String telefono;
+    private String email;
+    private String estatus;
+    private ExamenAdmisionRef examenAdmision;
+    private JornadaRef jornada;
+    private CarreraTecnicaRef carreraTecnica;
+
+    public AspiranteDTO(String noExpediente, String apellidos, String nombres, String direccion, String telefono,
+                        String email, String estatus, String examenId, String fechaExamen, String jornadaId,
+                        String jornada, String descripcion, String carreraId, String carreraTecnica) {
+        this.noExpediente = noExpediente;
+        this.apellidos = apellidos;
+        this.nombres = nombres;
+        this.direccion = direccion;
+        this.telefono = telefono;
+        this.email = email;
+        this.estatus = estatus;
+        this.examenAdmision = examenId == null ? null : new ExamenAdmisionRef(examenId, fechaExamen);
+        this.jornada = jornadaId == null ? null : new JornadaRef(jornadaId, jornada, descripcion);
+        this.carreraTecnica = carreraId == null ? null : new CarreraTecnicaRef(carreraId, carreraTecnica);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExamenAdmisionRef implements Serializable {
+        private String examenId;
+        private String fechaExamen;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JornadaRef implements Serializable {
+        private String jornadaId;
+        private String jornada;
+        private String descripcion;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CarreraTecnicaRef implements Serializable {
+        private String carreraId;
+        private String carreraTecnica;
+    }
+}
@@ -0,0 +1,20 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AspiranteFacetPageDTO implements Serializable {
+    private List<AspiranteDTO> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,37 @@
+package edu.kalum.core.model.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.NotEmpty;
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AspiranteImportDTO implements Serializable {
+    @JsonIgnore
+    private long fila;
+    @NotEmpty(message = "El numero de expediente no puede ser vacio")
+    private String noExpediente;
+    @NotEmpty(message = "Los apellidos no pueden ser vacios")
+    private String apellidos;
+    @NotEmpty(message = "Los nombres no pueden ser vacios")
+    private String nombres;
+    @NotEmpty(message = "La direccion no puede ser vacia")
+    private String direccion;
+    @NotEmpty(message = "El telefono no puede ser vacio")
+    private String telefono;
+    @Email(message = "El email no es valido")
+    private String email;
+    private String estatus;
+    @NotEmpty(message = "La carrera tecnica no puede ser vacia")
+    private String carreraId;
+    @NotEmpty(message = "La jornada no puede ser vacia")
+    private String jornadaId;
+    @NotEmpty(message = "El examen de admision no puede ser vacio")
+    private String examenId;
+}
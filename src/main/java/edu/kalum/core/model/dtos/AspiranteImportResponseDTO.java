@@ -0,0 +1,17 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AspiranteImportResponseDTO implements Serializable {
+    private long fila;
+    private String noExpediente;
+    private int statusCode;
+    private String message;
+}
@@ -0,0 +1,15 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarreraTecnicaDTO implements Serializable {
+    private String carreraId;
+    private String carreraTecnica;
+}
@@ -0,0 +1,47 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> implements Serializable {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+
+    public static int limit(Integer requested, int defaultSize, int maxSize) {
+        if (requested == null || requested <= 0) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return "";
+        }
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    public static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> CursorPageDTO<T> of(List<T> rows, int limit, Function<T, String> key) {
+        if (rows.size() > limit) {
+            List<T> content = new ArrayList<>(rows.subList(0, limit));
+            return new CursorPageDTO<T>(content, content.size(), encode(key.apply(content.get(limit - 1))));
+        }
+        return new CursorPageDTO<T>(rows, rows.size(), null);
+    }
+}
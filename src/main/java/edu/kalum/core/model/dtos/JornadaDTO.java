@@ -0,0 +1,16 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JornadaDTO implements Serializable {
+    private String jornadaId;
+    private String jornada;
+    private String descripcion;
+}
@@ -0,0 +1,19 @@
+package edu.kalum.core.model.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO implements Serializable {
+    private String id;
+    private String nombres;
+    private String apellidos;
+    private String email;
+    private String telefono;
+    private int score;
+}
@@ -0,0 +1,38 @@
+package edu.kalum.core.model.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+@Entity
+@Table(name = "ENROLLMENT_OUTBOX", indexes = @Index(name = "IDX_ENROLLMENT_OUTBOX_SIGUIENTE", columnList = "ESTADO, SIGUIENTE_INTENTO"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentOutbox implements Serializable {
+    public static final String PENDIENTE = "PENDIENTE";
+    public static final String PUBLICADO = "PUBLICADO";
+    public static final String DESCARTADO = "DESCARTADO";
+    @Id
+    @Column(name = "OUTBOX_ID")
+    private String outboxId;
+    @Column(name = "PAYLOAD", nullable = false, length = 1024)
+    private String payload;
+    @Column(name = "CREADO", nullable = false)
+    private Long creado;
+    @Column(name = "INTENTOS", nullable = false)
+    private int intentos;
+    @Column(name = "SIGUIENTE_INTENTO", nullable = false)
+    private Long siguienteIntento;
+    @Column(name = "ESTADO", nullable = false, length = 16)
+    private String estado;
+    @Column(name = "ACTUALIZADO", nullable = false)
+    private Long actualizado;
+}
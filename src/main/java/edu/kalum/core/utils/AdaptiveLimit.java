@@ -0,0 +1,91 @@
+package edu.kalum.core.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdaptiveLimit {
+
+    private static final double SUAVIZADO = 0.2;
+
+    private static final double TOLERANCIA = 2.0;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int ventana;
+
+    private final AtomicInteger enVuelo = new AtomicInteger();
+    private volatile double limite;
+
+    private volatile long rttMinimo = Long.MAX_VALUE;
+    private long minimoVentana = Long.MAX_VALUE;
+    private long muestras;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, int ventana) {
+        this.limite = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.ventana = Math.max(1, ventana);
+    }
+
+    public boolean tryAcquire(double fraccion) {
+        double permitido = Math.max(1, limite * fraccion);
+        while (true) {
+            int actual = enVuelo.get();
+            if (actual >= permitido) {
+                return false;
+            }
+            if (enVuelo.compareAndSet(actual, actual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rtt, int enVueloAlIniciar, boolean descartada) {
+        enVuelo.decrementAndGet();
+        if (descartada) {
+            descartada();
+        } else {
+            muestra(Math.max(1, rtt), enVueloAlIniciar);
+        }
+    }
+
+    public void ignore() {
+        enVuelo.decrementAndGet();
+    }
+
+    public int getEnVuelo() {
+        return enVuelo.get();
+    }
+
+    public double getLimite() {
+        return limite;
+    }
+
+    public long getRttMinimo() {
+        long actual = rttMinimo;
+        return actual == Long.MAX_VALUE ? 0 : actual;
+    }
+
+    private synchronized void descartada() {
+        double actual = limite;
+        limite = Math.max(minLimit, actual - Math.max(1, Math.log10(actual)));
+    }
+
+    private synchronized void muestra(long rtt, int enVueloAlIniciar) {
+        minimoVentana = Math.min(minimoVentana, rtt);
+        if (++muestras >= ventana) {
+            rttMinimo = minimoVentana;
+            minimoVentana = Long.MAX_VALUE;
+            muestras = 0;
+        } else if (minimoVentana < rttMinimo) {
+            rttMinimo = minimoVentana;
+        }
+        double actual = limite;
+        if (enVueloAlIniciar * 2 < actual) {
+            return;
+        }
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * rttMinimo / rtt));
+        double nuevo = actual * gradiente + Math.sqrt(actual);
+        nuevo = actual * (1 - SUAVIZADO) + nuevo * SUAVIZADO;
+        limite = Math.max(minLimit, Math.min(maxLimit, nuevo));
+    }
+}
@@ -0,0 +1,116 @@
+package edu.kalum.core.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CircuitBreaker implements MeterBinder {
+
+    public enum Estado { CERRADO, ABIERTO, SEMIABIERTO }
+
+    private Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private final String nombre;
+    private final int umbral;
+    private final long tiempoAbierto;
+    private final int pruebas;
+
+    private final AtomicReference<Estado> estado = new AtomicReference<>(Estado.CERRADO);
+    private final AtomicInteger fallosConsecutivos = new AtomicInteger();
+    private final AtomicInteger pruebasEnCurso = new AtomicInteger();
+    private final AtomicLong rechazadas = new AtomicLong();
+    private final AtomicLong aperturas = new AtomicLong();
+    private volatile long abiertoHasta;
+
+    public CircuitBreaker(String nombre, int umbral, long tiempoAbierto, int pruebas) {
+        this.nombre = nombre;
+        this.umbral = umbral;
+        this.tiempoAbierto = tiempoAbierto;
+        this.pruebas = pruebas;
+    }
+
+    public boolean tryAcquire() {
+        Estado actual = estado.get();
+        if (actual == Estado.CERRADO) {
+            return true;
+        }
+        long ahora = System.currentTimeMillis();
+        if (actual == Estado.ABIERTO) {
+            if (ahora < abiertoHasta) {
+                rechazadas.incrementAndGet();
+                return false;
+            }
+            if (estado.compareAndSet(Estado.ABIERTO, Estado.SEMIABIERTO)) {
+                logger.info("El circuito ".concat(nombre).concat(" pasa a semiabierto, se permiten llamadas de prueba"));
+            }
+        }
+        if (pruebasEnCurso.incrementAndGet() <= pruebas) {
+            return true;
+        }
+        pruebasEnCurso.decrementAndGet();
+        if (ahora - abiertoHasta > tiempoAbierto) {
+            abrir();
+        }
+        rechazadas.incrementAndGet();
+        return false;
+    }
+
+    public void onSuccess() {
+        if (fallosConsecutivos.get() != 0) {
+            fallosConsecutivos.set(0);
+        }
+        if (estado.get() != Estado.CERRADO && estado.getAndSet(Estado.CERRADO) != Estado.CERRADO) {
+            logger.info("El circuito ".concat(nombre).concat(" se cerro"));
+        }
+    }
+
+    public void onIgnored() {
+        if (estado.get() != Estado.CERRADO) {
+            pruebasEnCurso.updateAndGet(enCurso -> enCurso > 0 ? enCurso - 1 : 0);
+        }
+    }
+
+    public void onFailure() {
+        if (estado.get() == Estado.SEMIABIERTO || fallosConsecutivos.incrementAndGet() >= umbral) {
+            abrir();
+        }
+    }
+
+    public Estado getEstado() {
+        return estado.get();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    private void abrir() {
+        pruebasEnCurso.set(0);
+        abiertoHasta = System.currentTimeMillis() + tiempoAbierto;
+        if (estado.getAndSet(Estado.ABIERTO) != Estado.ABIERTO) {
+            aperturas.incrementAndGet();
+            logger.warn("El circuito ".concat(nombre).concat(" se abrio por ").concat(String.valueOf(tiempoAbierto)).concat(" ms"));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kalum.circuit.state", this, circuito -> circuito.estado.get().ordinal())
+                .description("0 cerrado, 1 abierto, 2 semiabierto")
+                .tag("circuito", nombre)
+                .register(registry);
+        FunctionCounter.builder("kalum.circuit.rejected", rechazadas, AtomicLong::get)
+                .tag("circuito", nombre)
+                .register(registry);
+        FunctionCounter.builder("kalum.circuit.opened", aperturas, AtomicLong::get)
+                .tag("circuito", nombre)
+                .register(registry);
+    }
+}
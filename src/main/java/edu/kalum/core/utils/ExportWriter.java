@@ -0,0 +1,199 @@
+package edu.kalum.core.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class ExportWriter {
+
+    private static final int BUFFER = 64 * 1024;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void write(HttpServletResponse response, String nombre, String formato, Consumer<ResultSetExtractor<Long>> source) throws IOException {
+        boolean ndjson = "ndjson".equalsIgnoreCase(formato);
+        try {
+            source.accept(resultSet -> exportar(response, nombre, ndjson, resultSet));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long exportar(HttpServletResponse response, String nombre, boolean ndjson, ResultSet resultSet) throws SQLException {
+        boolean hayFilas = resultSet.next();
+        boolean completo = false;
+        Destino destino = null;
+        OutputStream out = null;
+        try {
+            destino = abrir(response, nombre, ndjson);
+            long filas;
+            if (ndjson) {
+                out = new GZIPOutputStream(destino, BUFFER);
+                filas = ndjson(resultSet, hayFilas, out);
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8), BUFFER);
+                out = destino;
+                filas = csv(resultSet, hayFilas, writer);
+                writer.flush();
+            }
+            completo = true;
+            return filas;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            cerrar(destino, out, completo);
+        }
+    }
+
+    private Destino abrir(HttpServletResponse response, String nombre, boolean ndjson) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+        if (ndjson) {
+            response.setContentType("application/gzip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nombre + ".ndjson.gz\"");
+        } else {
+            response.setContentType("text/csv");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nombre + ".csv\"");
+        }
+        return new Destino(response.getOutputStream());
+    }
+
+    private void cerrar(Destino destino, OutputStream out, boolean completo) {
+        if (destino == null) {
+            return;
+        }
+        if (!completo) {
+            destino.cortar();
+        }
+        try {
+            (out == null ? destino : out).close();
+        } catch (IOException e) {
+            if (completo) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private long csv(ResultSet resultSet, boolean hayFilas, Writer out) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnas = metaData.getColumnCount();
+        long filas = 0;
+        for (int i = 1; i <= columnas; i++) {
+            if (i > 1) {
+                out.write(',');
+            }
+            campo(out, metaData.getColumnLabel(i));
+        }
+        out.write("\r\n");
+        if (!hayFilas) {
+            return filas;
+        }
+        do {
+            for (int i = 1; i <= columnas; i++) {
+                if (i > 1) {
+                    out.write(',');
+                }
+                campo(out, resultSet.getString(i));
+            }
+            out.write("\r\n");
+            filas++;
+        } while (resultSet.next());
+        return filas;
+    }
+
+    private void campo(Writer out, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            out.write(valor);
+            return;
+        }
+        out.write('"');
+        out.write(valor.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private long ndjson(ResultSet resultSet, boolean hayFilas, OutputStream out) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnas = metaData.getColumnCount();
+        long filas = 0;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        if (hayFilas) {
+            do {
+                generator.writeStartObject();
+                for (int i = 1; i <= columnas; i++) {
+                    generator.writeStringField(metaData.getColumnLabel(i), resultSet.getString(i));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                filas++;
+            } while (resultSet.next());
+        }
+        generator.close();
+        return filas;
+    }
+
+    private static final class Destino extends FilterOutputStream {
+
+        private boolean cortado;
+
+        private Destino(OutputStream out) {
+            super(out);
+        }
+
+        private void cortar() {
+            cortado = true;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!cortado) {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!cortado) {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!cortado) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!cortado) {
+                out.close();
+            }
+        }
+    }
+}
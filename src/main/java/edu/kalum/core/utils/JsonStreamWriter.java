@@ -0,0 +1,102 @@
+package edu.kalum.core.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Component
+public class JsonStreamWriter {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public boolean acceptsNdjson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && MediaType.parseMediaTypes(accept)
+                .stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+
+    public <T> void write(HttpServletRequest request, HttpServletResponse response, Consumer<Consumer<T>> source) throws IOException {
+        Salida salida = new Salida(response, acceptsNdjson(request));
+        try {
+            source.accept(salida::escribir);
+            salida.cerrar();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void writeError(HttpServletResponse response, Map<String, Object> body, RuntimeException causa) throws IOException {
+        if (response.isCommitted()) {
+            throw causa;
+        }
+        response.resetBuffer();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private final class Salida {
+
+        private final HttpServletResponse response;
+
+        private final boolean ndjson;
+
+        private JsonGenerator generator;
+
+        private Salida(HttpServletResponse response, boolean ndjson) {
+            this.response = response;
+            this.ndjson = ndjson;
+        }
+
+        private void abrir() throws IOException {
+            response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+        }
+
+        private void escribir(Object value) {
+            try {
+                if (generator == null) {
+                    abrir();
+                }
+                generator.writeObject(value);
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void cerrar() throws IOException {
+            if (generator == null) {
+                abrir();
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package edu.kalum.core.utils;
+
+import edu.kalum.core.model.dtos.SearchResultDTO;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+public class SearchIndex {
+
+    private static final Pattern DIACRITICOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+    private static final int SUFIJO_MINIMO = 3;
+
+    private final ConcurrentSkipListMap<String, Set<String>> tokens = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Entrada> documentos = new ConcurrentHashMap<>();
+
+    private final int terminoMinimo;
+    private final int maxCandidatos;
+
+    public SearchIndex(int terminoMinimo, int maxCandidatos) {
+        this.terminoMinimo = terminoMinimo;
+        this.maxCandidatos = maxCandidatos;
+    }
+
+    public synchronized void put(String id, String nombres, String apellidos, String email, String telefono) {
+        remove(id);
+        Set<String> propios = new HashSet<>();
+        propios.addAll(tokenizar(nombres));
+        propios.addAll(tokenizar(apellidos));
+        propios.addAll(tokenizar(email));
+        propios.addAll(sufijos(telefono));
+        for (String token : propios) {
+            tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        documentos.put(id, new Entrada(new SearchResultDTO(id, nombres, apellidos, email, telefono, 0), propios));
+    }
+
+    public synchronized void remove(String id) {
+        Entrada entrada = documentos.remove(id);
+        if (entrada == null) {
+            return;
+        }
+        for (String token : entrada.tokens) {
+            Set<String> ids = tokens.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    tokens.remove(token, ids);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return documentos.size();
+    }
+
+    public List<SearchResultDTO> search(String consulta, int limite) {
+        List<String> terminos = new ArrayList<>(tokenizar(consulta));
+        terminos.removeIf(termino -> termino.length() < terminoMinimo);
+        if (terminos.isEmpty()) {
+            throw new IllegalArgumentException("La busqueda debe incluir al menos un termino de " + terminoMinimo + " caracteres");
+        }
+        terminos.sort(Comparator.comparingInt(String::length).reversed());
+        Map<String, Integer> puntajes = null;
+        for (String termino : terminos) {
+            Map<String, Integer> coincidencias = new HashMap<>();
+            int examinados = 0;
+            for (Map.Entry<String, Set<String>> token : tokens.subMap(termino, true, termino + Character.MAX_VALUE, false).entrySet()) {
+                int puntaje = token.getKey().equals(termino) ? 2 : 1;
+                for (String id : token.getValue()) {
+                    if (puntajes == null || puntajes.containsKey(id)) {
+                        coincidencias.merge(id, puntaje, Math::max);
+                    }
+                    examinados++;
+                }
+                if (examinados >= maxCandidatos) {
+                    break;
+                }
+            }
+            if (puntajes != null) {
+                for (Map.Entry<String, Integer> coincidencia : coincidencias.entrySet()) {
+                    coincidencia.setValue(coincidencia.getValue() + puntajes.get(coincidencia.getKey()));
+                }
+            }
+            puntajes = coincidencias;
+            if (puntajes.isEmpty()) {
+                break;
+            }
+        }
+        List<SearchResultDTO> resultados = new ArrayList<>();
+        if (puntajes == null) {
+            return resultados;
+        }
+        puntajes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.<String, Integer>comparingByKey()))
+                .limit(limite)
+                .forEach(puntaje -> {
+                    Entrada entrada = documentos.get(puntaje.getKey());
+                    if (entrada != null) {
+                        SearchResultDTO documento = entrada.documento;
+                        resultados.add(new SearchResultDTO(documento.getId(), documento.getNombres(), documento.getApellidos(),
+                                documento.getEmail(), documento.getTelefono(), puntaje.getValue()));
+                    }
+                });
+        return resultados;
+    }
+
+    private static Set<String> tokenizar(String texto) {
+        Set<String> resultado = new LinkedHashSet<>();
+        if (texto == null) {
+            return resultado;
+        }
+        String normalizado = DIACRITICOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("").toLowerCase();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty()) {
+                resultado.add(token);
+            }
+        }
+        return resultado;
+    }
+
+    private static Set<String> sufijos(String telefono) {
+        Set<String> resultado = tokenizar(telefono);
+        if (telefono == null) {
+            return resultado;
+        }
+        String digitos = telefono.replaceAll("\\D", "");
+        for (int i = 0; i + SUFIJO_MINIMO <= digitos.length(); i++) {
+            resultado.add(digitos.substring(i));
+        }
+        return resultado;
+    }
+
+    private static final class Entrada {
+        private final SearchResultDTO documento;
+        private final Set<String> tokens;
+
+        private Entrada(SearchResultDTO documento, Set<String> tokens) {
+            this.documento = documento;
+            this.tokens = tokens;
+        }
+    }
+}
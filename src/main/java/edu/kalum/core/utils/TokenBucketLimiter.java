@@ -0,0 +1,91 @@
+package edu.kalum.core.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketLimiter {
+
+    private final int limit;
+    private final int burst;
+    private final long periodo;
+    private final long intervalo;
+    private final long capacidad;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketLimiter(int limit, long periodSeconds, int burst, long maxKeys) {
+        this.limit = limit;
+        this.burst = burst;
+        this.periodo = TimeUnit.SECONDS.toNanos(periodSeconds);
+        this.intervalo = periodo / limit;
+        this.capacidad = intervalo * burst;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Math.max(periodo, capacidad), TimeUnit.NANOSECONDS)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    public Resultado tryConsume(String clave) {
+        AtomicLong llegadaTeorica = buckets.get(clave, k -> new AtomicLong(Long.MIN_VALUE));
+        long ahora = System.nanoTime();
+        while (true) {
+            long actual = llegadaTeorica.get();
+            long base = actual == Long.MIN_VALUE || actual - ahora < 0 ? ahora : actual;
+            long siguiente = base + intervalo;
+            if (siguiente - ahora > capacidad) {
+                return new Resultado(false, 0, siguiente - ahora - capacidad, base - ahora);
+            }
+            if (llegadaTeorica.compareAndSet(actual, siguiente)) {
+                return new Resultado(true, (int) ((ahora + capacidad - siguiente) / intervalo), 0, siguiente - ahora);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public long getPeriodSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(periodo);
+    }
+
+    public long getBurstSeconds() {
+        return Math.max(1, (capacidad + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public static final class Resultado {
+        private final boolean permitido;
+        private final int restantes;
+        private final long esperaNanos;
+        private final long reinicioNanos;
+
+        private Resultado(boolean permitido, int restantes, long esperaNanos, long reinicioNanos) {
+            this.permitido = permitido;
+            this.restantes = restantes;
+            this.esperaNanos = esperaNanos;
+            this.reinicioNanos = reinicioNanos;
+        }
+
+        public boolean isPermitido() {
+            return permitido;
+        }
+
+        public int getRestantes() {
+            return restantes;
+        }
+
+        public long getEsperaSegundos() {
+            return Math.max(1, (esperaNanos + 999_999_999L) / 1_000_000_000L);
+        }
+
+        public long getReinicioSegundos() {
+            return Math.max(0, (reinicioNanos + 999_999_999L) / 1_000_000_000L);
+        }
+    }
+}
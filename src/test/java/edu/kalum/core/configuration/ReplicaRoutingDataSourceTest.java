@@ -0,0 +1,94 @@
+package edu.kalum.core.configuration;
+
+import edu.kalum.core.model.dao.IJornadaDao;
+import edu.kalum.core.model.entities.Jornada;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:kalum_routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "edu.kalum.core.configuration.datasource.routing.enabled=true",
+        "edu.kalum.core.configuration.datasource.replica-urls=jdbc:h2:mem:kalum_routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "edu.kalum.core.configuration.jdbc.rewrite-batched-statements=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceRoutingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaRoutingDataSourceTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private IJornadaDao jornadaDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Environment environment;
+
+    private JdbcTemplate primaria;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setup() {
+        primaria = new JdbcTemplate(replicaRoutingDataSource.getResolvedDefaultDataSource());
+        replica = new JdbcTemplate(replicaRoutingDataSource.getReplicas().get(0));
+        primaria.update("delete from JORNADA");
+        replica.execute("DROP ALL OBJECTS");
+        for (String sentencia : primaria.queryForList("SCRIPT NODATA", String.class)) {
+            replica.execute(sentencia);
+        }
+    }
+
+    @Test
+    public void openInViewDesactivadoConReplicas() {
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class)).isFalse();
+    }
+
+    @Test
+    public void lecturaReadOnlyVaALaReplica() {
+        replica.update("insert into JORNADA (JORNADA_ID, JORNADA, DESCRIPCION) values ('JR', 'JR', 'Solo en la replica')");
+
+        Jornada jornada = soloLectura().execute(status -> jornadaDao.findById("JR").orElse(null));
+
+        assertThat(jornada).isNotNull();
+        assertThat(primaria.queryForObject("select count(*) from JORNADA", Integer.class)).isZero();
+    }
+
+    @Test
+    public void escrituraDespuesDeLecturaVaALaPrimaria() {
+        replica.update("insert into JORNADA (JORNADA_ID, JORNADA, DESCRIPCION) values ('JR', 'JR', 'Solo en la replica')");
+
+        Jornada leida = soloLectura().execute(status -> jornadaDao.findById("JR").orElse(null));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jornadaDao.save(new Jornada("JM", "JM", "Jornada matutina despues de ".concat(leida.getJornadaId()), null)));
+
+        assertThat(primaria.queryForObject("select count(*) from JORNADA where JORNADA_ID = 'JM'", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("select count(*) from JORNADA where JORNADA_ID = 'JM'", Integer.class)).isZero();
+    }
+
+    private TransactionTemplate soloLectura() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+}
@@ -0,0 +1,123 @@
+package edu.kalum.core.listeners;
+
+import com.google.gson.Gson;
+import com.rabbitmq.client.Channel;
+import edu.kalum.core.model.dao.services.IEnrollmentConsumerService;
+import edu.kalum.core.model.dtos.EnrollmentRequestDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EnrollmentListenerTest {
+
+    private static final Gson GSON = new Gson();
+
+    private IEnrollmentConsumerService enrollmentConsumerService;
+
+    private Channel channel;
+
+    private MeterRegistry meterRegistry;
+
+    private EnrollmentListener listener;
+
+    @BeforeEach
+    public void setup() {
+        enrollmentConsumerService = mock(IEnrollmentConsumerService.class);
+        channel = mock(Channel.class);
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new EnrollmentListener();
+        ReflectionTestUtils.setField(listener, "queue", "kalum.queue.enrollment");
+        ReflectionTestUtils.setField(listener, "enrollmentConsumerService", enrollmentConsumerService);
+        ReflectionTestUtils.setField(listener, "amqpAdmin", mock(AmqpAdmin.class));
+        ReflectionTestUtils.setField(listener, "meterRegistry", meterRegistry);
+        listener.init();
+    }
+
+    @Test
+    public void loteCompletoSeConfirmaConUnSoloAck() throws Exception {
+        when(enrollmentConsumerService.process(anyList())).thenReturn(3);
+
+        listener.onEnrollments(Arrays.asList(mensaje(1, "EXP-1"), mensaje(2, "EXP-2"), mensaje(3, "EXP-3")), channel);
+
+        verify(channel).basicAck(3, true);
+        verify(channel, never()).basicReject(anyLong(), anyBoolean());
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        assertThat(contador("persistido")).isEqualTo(3);
+    }
+
+    @Test
+    public void errorPermanenteProcesaUnoAUnoYEnviaAlDlqSoloElMensajeFallido() throws Exception {
+        when(enrollmentConsumerService.process(anyList())).thenAnswer(invocacion -> {
+            List<EnrollmentRequestDTO> requests = invocacion.getArgument(0);
+            if (requests.size() > 1 || "EXP-2".equals(requests.get(0).getNoExpediente())) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return 1;
+        });
+
+        listener.onEnrollments(Arrays.asList(mensaje(1, "EXP-1"), mensaje(2, "EXP-2"), mensaje(3, "EXP-3")), channel);
+
+        verify(channel).basicAck(1, false);
+        verify(channel).basicReject(2, false);
+        verify(channel).basicAck(3, false);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+        assertThat(contador("persistido")).isEqualTo(2);
+        assertThat(contador("rechazado")).isEqualTo(1);
+    }
+
+    @Test
+    public void errorTransitorioDevuelveElLoteALaCola() throws Exception {
+        when(enrollmentConsumerService.process(anyList())).thenThrow(new QueryTimeoutException("Lock wait timeout"));
+
+        listener.onEnrollments(Arrays.asList(mensaje(1, "EXP-1"), mensaje(2, "EXP-2")), channel);
+
+        verify(channel).basicNack(2, true, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel, never()).basicReject(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void mensajeInvalidoSeEnviaAlDlqSinDetenerElLote() throws Exception {
+        when(enrollmentConsumerService.process(anyList())).thenReturn(1);
+        Message invalido = MessageBuilder.withBody("no es json".getBytes(StandardCharsets.UTF_8)).build();
+        invalido.getMessageProperties().setDeliveryTag(1);
+
+        listener.onEnrollments(Arrays.asList(invalido, mensaje(2, "EXP-2")), channel);
+
+        verify(channel).basicReject(1, false);
+        verify(channel).basicAck(2, true);
+        assertThat(contador("rechazado")).isEqualTo(1);
+    }
+
+    private Message mensaje(long tag, String expediente) {
+        Message message = MessageBuilder.withBody(GSON.toJson(new EnrollmentRequestDTO(expediente, "2022", 1, "CT-INF"))
+                .getBytes(StandardCharsets.UTF_8)).build();
+        message.getMessageProperties().setDeliveryTag(tag);
+        return message;
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.counter("kalum.enrollment.consumer.messages", "resultado", resultado).count();
+    }
+}
@@ -0,0 +1,83 @@
+package edu.kalum.core.model.dao;
+
+import edu.kalum.core.configuration.HibernateStatementCounter;
+import edu.kalum.core.model.dtos.AspiranteDTO;
+import edu.kalum.core.model.entities.Aspirante;
+import edu.kalum.core.model.entities.CarreraTecnica;
+import edu.kalum.core.model.entities.ExamenAdmision;
+import edu.kalum.core.model.entities.Jornada;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=edu.kalum.core.configuration.HibernateStatementCounter")
+public class IAspiranteDaoTest {
+
+    private static final int ASPIRANTES = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IAspiranteDao aspiranteDao;
+
+    @BeforeEach
+    public void setup() {
+        ExamenAdmision examen = entityManager.persist(new ExamenAdmision("EXA-2022", "2022-11-30", null));
+        Jornada[] jornadas = {
+                entityManager.persist(new Jornada("JM", "JM", "Jornada matutina", null)),
+                entityManager.persist(new Jornada("JV", "JV", "Jornada vespertina", null))
+        };
+        CarreraTecnica[] carreras = {
+                entityManager.persist(new CarreraTecnica("CT-INF", "Informatica", null, null)),
+                entityManager.persist(new CarreraTecnica("CT-ELE", "Electronica", null, null)),
+                entityManager.persist(new CarreraTecnica("CT-MEC", "Mecanica", null, null))
+        };
+        for (int i = 0; i < ASPIRANTES; i++) {
+            entityManager.persist(new Aspirante(String.format("EXP-2022%03d", i), "Apellido", "Nombre", "Zona 1", "55555555",
+                    "aspirante@kalum.edu.gt", "NO ASIGNADO", examen, jornadas[i % jornadas.length], carreras[i % carreras.length]));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        HibernateStatementCounter.reset();
+    }
+
+    @Test
+    public void findAllDTOUsaUnaConsultaYElConteo() {
+        Page<AspiranteDTO> pagina = aspiranteDao.findAllDTO(PageRequest.of(0, 10));
+
+        assertThat(pagina.getContent()).hasSize(10);
+        assertThat(pagina.getTotalElements()).isEqualTo(ASPIRANTES);
+        assertThat(pagina.getContent()).allSatisfy(aspirante -> {
+            assertThat(aspirante.getCarreraTecnica()).isNotNull();
+            assertThat(aspirante.getJornada()).isNotNull();
+            assertThat(aspirante.getExamenAdmision()).isNotNull();
+        });
+        assertThat(HibernateStatementCounter.reset()).isEqualTo(2);
+    }
+
+    @Test
+    public void findDTOByNoExpedienteGreaterThanUsaUnaConsulta() {
+        List<AspiranteDTO> aspirantes = aspiranteDao.findDTOByNoExpedienteGreaterThan("", PageRequest.of(0, 20));
+
+        assertThat(aspirantes).hasSize(20);
+        assertThat(HibernateStatementCounter.reset()).isEqualTo(1);
+    }
+
+    @Test
+    public void findDTOByNoExpedienteUsaUnaConsulta() {
+        AspiranteDTO aspirante = aspiranteDao.findDTOByNoExpediente("EXP-2022004");
+
+        assertThat(aspirante.getCarreraTecnica().getCarreraId()).isEqualTo("CT-ELE");
+        assertThat(aspirante.getJornada().getJornadaId()).isEqualTo("JM");
+        assertThat(HibernateStatementCounter.reset()).isEqualTo(1);
+    }
+}